@@ -15,24 +15,44 @@
  */
 package io.github.qwzhang01.reflection;
 
+import io.github.qwzhang01.reflection.accessor.ColumnExtractor;
 import io.github.qwzhang01.reflection.accessor.FieldAccessor;
+import io.github.qwzhang01.reflection.accessor.FieldSet;
 import io.github.qwzhang01.reflection.accessor.MethodAccessor;
+import io.github.qwzhang01.reflection.accessor.PropertyPath;
 import io.github.qwzhang01.reflection.builder.ObjectBuilder;
+import io.github.qwzhang01.reflection.copier.CopyPlan;
 import io.github.qwzhang01.reflection.copier.ObjectCopier;
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.core.MetadataWarmer;
 import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.factory.ArgumentPlan;
 import io.github.qwzhang01.reflection.factory.InstanceFactory;
+import io.github.qwzhang01.reflection.invoke.BeanAccess;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+import io.github.qwzhang01.reflection.invoke.Invoker;
 import io.github.qwzhang01.reflection.mapper.BeanMapper;
 import io.github.qwzhang01.reflection.proxy.ReflectionProxy;
 import io.github.qwzhang01.reflection.scanner.ClassScanner;
 import io.github.qwzhang01.reflection.scanner.CompositeScanner;
+import io.github.qwzhang01.reflection.scanner.SnapshotScanner;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Reflection Toolkit Facade Class - Adopts Facade Design Pattern
@@ -79,6 +99,7 @@ public class ReflectionToolkit {
     private final ObjectCopier objectCopier;
     private final BeanMapper beanMapper;
     private final ReflectionContext context;
+    private volatile SnapshotScanner snapshotScanner;
 
     private ReflectionToolkit() {
         this.scanner = new CompositeScanner();
@@ -101,7 +122,7 @@ public class ReflectionToolkit {
      * @return scanned class set
      */
     public Set<Class<?>> scanPackage(String packageName) {
-        return scanner.scan(packageName);
+        return scanner().scan(packageName);
     }
 
     // ==================== Package Scanning ====================
@@ -114,7 +135,7 @@ public class ReflectionToolkit {
      * @return matching class set
      */
     public Set<Class<?>> scanPackage(String packageName, Predicate<Class<?>> filter) {
-        return scanner.scan(packageName, filter);
+        return scanner().scan(packageName, filter);
     }
 
     /**
@@ -126,7 +147,7 @@ public class ReflectionToolkit {
      */
     public Set<Class<?>> findClassesWithAnnotation(String packageName,
                                                    Class<? extends Annotation> annotation) {
-        return scanner.scan(packageName, clazz -> clazz.isAnnotationPresent(annotation));
+        return scanner().scan(packageName, clazz -> clazz.isAnnotationPresent(annotation));
     }
 
     /**
@@ -139,7 +160,7 @@ public class ReflectionToolkit {
      */
     @SuppressWarnings("unchecked")
     public <T> Set<Class<? extends T>> findSubClasses(String packageName, Class<T> superClass) {
-        return (Set<Class<? extends T>>) (Set<?>) scanner.scan(
+        return (Set<Class<? extends T>>) (Set<?>) scanner().scan(
                 packageName,
                 clazz -> superClass.isAssignableFrom(clazz) && !clazz.equals(superClass)
         );
@@ -183,6 +204,111 @@ public class ReflectionToolkit {
         return instanceFactory.createInstance(clazz, paramTypes, args);
     }
 
+    /**
+     * Create a batch of instances using the no-arg constructor, compiled once for the batch
+     *
+     * @param clazz class object
+     * @param count number of instances
+     * @param <T>   generic type
+     * @return list of newly created instances
+     */
+    public <T> List<T> newInstances(Class<T> clazz, int count) {
+        return instanceFactory.createInstances(clazz, count);
+    }
+
+    /**
+     * Create a batch of instances using a parameterized constructor, one per row of the argument columns
+     *
+     * @param clazz      class object
+     * @param paramTypes exact parameter types
+     * @param columns    one argument column per parameter, all of the same length
+     * @param <T>        generic type
+     * @return list of newly created instances, in row order
+     */
+    public <T> List<T> newInstances(Class<T> clazz, Class<?>[] paramTypes, Object[][] columns) {
+        return instanceFactory.createInstances(clazz, paramTypes, columns);
+    }
+
+    /**
+     * Infinite stream of instances created using the no-arg constructor
+     *
+     * @param clazz class object
+     * @param <T>   generic type
+     * @return stream to be limited by the caller
+     */
+    public <T> Stream<T> generateInstances(Class<T> clazz) {
+        return instanceFactory.generateInstances(clazz);
+    }
+
+    /**
+     * Fill a preallocated array with instances created using the no-arg constructor, large arrays in parallel
+     *
+     * @param array array to fill
+     * @param clazz class object
+     * @param pool  pool for large arrays, or null to fill on the calling thread
+     * @param <T>   generic type
+     * @return the filled array
+     */
+    public <T> T[] fillInstances(T[] array, Class<? extends T> clazz, ForkJoinPool pool) {
+        return instanceFactory.fillInstances(array, clazz, pool);
+    }
+
+    /**
+     * Compile constructor into an arity-specialized invoker; the invoker ignores its target argument
+     *
+     * @param clazz      class object
+     * @param paramTypes exact parameter types
+     * @return cached invoker returning the new instance
+     */
+    public Invoker compileConstructor(Class<?> clazz, Class<?>... paramTypes) {
+        return instanceFactory.compileConstructor(clazz, paramTypes);
+    }
+
+    /**
+     * Get the no-arg constructor as a compiled supplier, cached per class
+     *
+     * @param clazz class object
+     * @param <T>   generic type
+     * @return supplier creating a new instance on every call
+     */
+    public <T> Supplier<T> getInstanceSupplier(Class<T> clazz) {
+        return instanceFactory.getSupplier(clazz);
+    }
+
+    /**
+     * Get a parameterized constructor as a compiled function of the argument array, cached per constructor
+     *
+     * @param clazz      class object
+     * @param paramTypes exact parameter types
+     * @param <T>        generic type
+     * @return function creating a new instance on every call
+     */
+    public <T> Function<Object[], T> getInstanceFactory(Class<T> clazz, Class<?>... paramTypes) {
+        return instanceFactory.getFactory(clazz, paramTypes);
+    }
+
+    /**
+     * Get the plan for creating a record or a class with a {@code @Creator} constructor from property values
+     *
+     * @param clazz class object
+     * @param <T>   generic type
+     * @return cached plan, or empty if the class has no such constructor
+     */
+    public <T> Optional<ArgumentPlan<T>> getArgumentPlan(Class<T> clazz) {
+        return instanceFactory.getArgumentPlan(clazz);
+    }
+
+    /**
+     * Allocate an instance without running any constructor; every field holds its default value
+     *
+     * @param clazz class object
+     * @param <T>   generic type
+     * @return new uninitialized instance
+     */
+    public <T> T allocateInstance(Class<T> clazz) {
+        return instanceFactory.allocateInstance(clazz);
+    }
+
     /**
      * Get all fields of a class (including inherited fields)
      *
@@ -217,6 +343,272 @@ public class ReflectionToolkit {
         fieldAccessor.setValue(obj, fieldName, value);
     }
 
+    /**
+     * Get value of specified int field from object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @return field value
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type int
+     */
+    public int getIntFieldValue(Object obj, String fieldName) {
+        return fieldAccessor.getInt(obj, fieldName);
+    }
+
+    /**
+     * Set value of specified int field in object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @param value     value to set
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type int
+     */
+    public void setIntFieldValue(Object obj, String fieldName, int value) {
+        fieldAccessor.setInt(obj, fieldName, value);
+    }
+
+    /**
+     * Get value of specified long field from object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @return field value
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type long
+     */
+    public long getLongFieldValue(Object obj, String fieldName) {
+        return fieldAccessor.getLong(obj, fieldName);
+    }
+
+    /**
+     * Set value of specified long field in object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @param value     value to set
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type long
+     */
+    public void setLongFieldValue(Object obj, String fieldName, long value) {
+        fieldAccessor.setLong(obj, fieldName, value);
+    }
+
+    /**
+     * Get value of specified double field from object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @return field value
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type double
+     */
+    public double getDoubleFieldValue(Object obj, String fieldName) {
+        return fieldAccessor.getDouble(obj, fieldName);
+    }
+
+    /**
+     * Set value of specified double field in object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @param value     value to set
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type double
+     */
+    public void setDoubleFieldValue(Object obj, String fieldName, double value) {
+        fieldAccessor.setDouble(obj, fieldName, value);
+    }
+
+    /**
+     * Get value of specified boolean field from object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @return field value
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type boolean
+     */
+    public boolean getBooleanFieldValue(Object obj, String fieldName) {
+        return fieldAccessor.getBoolean(obj, fieldName);
+    }
+
+    /**
+     * Set value of specified boolean field in object, without boxing
+     *
+     * @param obj       object instance
+     * @param fieldName field name
+     * @param value     value to set
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the field is not of type boolean
+     */
+    public void setBooleanFieldValue(Object obj, String fieldName, boolean value) {
+        fieldAccessor.setBoolean(obj, fieldName, value);
+    }
+
+    /**
+     * Compile a reusable VarHandle-backed accessor for the field, cached per class and field
+     *
+     * @param clazz     class object
+     * @param fieldName field name
+     * @return compiled field handle
+     */
+    public FieldHandle compileField(Class<?> clazz, String fieldName) {
+        return fieldAccessor.compile(clazz, fieldName);
+    }
+
+    /**
+     * Compile a plan for reading and writing the named fields of many objects, cached per (class, names)
+     *
+     * @param clazz      class object
+     * @param fieldNames field names, their order defines the value positions
+     * @return compiled field set
+     */
+    public FieldSet compileFieldSet(Class<?> clazz, List<String> fieldNames) {
+        return fieldAccessor.compileFieldSet(clazz, fieldNames);
+    }
+
+    /**
+     * Get values of the named fields, keyed by field name
+     *
+     * @param obj        object instance
+     * @param fieldNames field names
+     * @return field name to value map
+     */
+    public Map<String, Object> getFieldValues(Object obj, List<String> fieldNames) {
+        return fieldAccessor.getValues(obj, fieldNames);
+    }
+
+    /**
+     * Compile an extractor for bulk reads of one field; use {@link ColumnExtractor#parallel} to split large lists
+     *
+     * @param clazz     class object
+     * @param fieldName field name
+     * @return cached sequential extractor
+     */
+    public ColumnExtractor compileColumn(Class<?> clazz, String fieldName) {
+        return fieldAccessor.compileColumn(clazz, fieldName);
+    }
+
+    /**
+     * Extract an int field from every object, resolved on the class of the first object
+     *
+     * @param objects   objects, not null
+     * @param fieldName field name
+     * @return field values in list order
+     */
+    public int[] extractInts(List<?> objects, String fieldName) {
+        if (objects.isEmpty()) {
+            return new int[0];
+        }
+        return fieldAccessor.compileColumn(objects.get(0).getClass(), fieldName).extractInts(objects);
+    }
+
+    /**
+     * Extract a long field from every object, resolved on the class of the first object
+     *
+     * @param objects   objects, not null
+     * @param fieldName field name
+     * @return field values in list order
+     */
+    public long[] extractLongs(List<?> objects, String fieldName) {
+        if (objects.isEmpty()) {
+            return new long[0];
+        }
+        return fieldAccessor.compileColumn(objects.get(0).getClass(), fieldName).extractLongs(objects);
+    }
+
+    /**
+     * Extract a double field from every object, resolved on the class of the first object
+     *
+     * @param objects   objects, not null
+     * @param fieldName field name
+     * @return field values in list order
+     */
+    public double[] extractDoubles(List<?> objects, String fieldName) {
+        if (objects.isEmpty()) {
+            return new double[0];
+        }
+        return fieldAccessor.compileColumn(objects.get(0).getClass(), fieldName).extractDoubles(objects);
+    }
+
+    /**
+     * Extract a field from every object with primitives boxed, resolved on the class of the first object
+     *
+     * @param objects   objects, not null
+     * @param fieldName field name
+     * @return field values in list order
+     */
+    public Object[] extractObjects(List<?> objects, String fieldName) {
+        if (objects.isEmpty()) {
+            return new Object[0];
+        }
+        return fieldAccessor.compileColumn(objects.get(0).getClass(), fieldName).extractObjects(objects);
+    }
+
+    /**
+     * Extract a field from every object as strings, resolved on the class of the first object
+     *
+     * @param objects   objects, not null
+     * @param fieldName field name
+     * @return field values in list order
+     */
+    public String[] extractStrings(List<?> objects, String fieldName) {
+        if (objects.isEmpty()) {
+            return new String[0];
+        }
+        return fieldAccessor.compileColumn(objects.get(0).getClass(), fieldName).extractStrings(objects);
+    }
+
+    /**
+     * Compile a nested property path such as {@code order.customer.address.city}, {@code items[3].sku}
+     * or {@code attrs['k']}, cached per (root class, path)
+     *
+     * @param rootClass class the path starts from
+     * @param path      property path
+     * @return compiled path
+     */
+    public PropertyPath compilePath(Class<?> rootClass, String path) {
+        return fieldAccessor.compilePath(rootClass, path);
+    }
+
+    /**
+     * Get value at the end of a nested property path, null-safe
+     *
+     * @param root object the path starts from
+     * @param path property path
+     * @return value, or null if any value along the path is null or missing
+     */
+    public Object getPathValue(Object root, String path) {
+        return fieldAccessor.getPathValue(root, path);
+    }
+
+    /**
+     * Set value at the end of a nested property path
+     *
+     * @param root  object the path starts from
+     * @param path  property path
+     * @param value value to set
+     */
+    public void setPathValue(Object root, String path, Object value) {
+        fieldAccessor.setPathValue(root, path, value);
+    }
+
+    /**
+     * Get bean properties of class: one per non-static field, read and written through
+     * its getter/setter (compiled to lambdas) when present, directly otherwise
+     *
+     * @param clazz class object
+     * @return property list
+     */
+    public List<BeanProperty> getProperties(Class<?> clazz) {
+        return fieldAccessor.getProperties(clazz);
+    }
+
+    /**
+     * Get index-based access to all bean properties of class. The accessors are compiled into a
+     * hidden class on first request; classes that cannot be compiled use the bean property accessors.
+     *
+     * @param clazz class object
+     * @return bean access, property indexes follow {@link #getProperties(Class)}
+     */
+    public BeanAccess getBeanAccess(Class<?> clazz) {
+        return fieldAccessor.getBeanAccess(clazz);
+    }
+
     /**
      * Get all fields with specified annotation in class
      *
@@ -240,6 +632,18 @@ public class ReflectionToolkit {
         return fieldAccessor.getFieldsByType(clazz, fieldType);
     }
 
+    /**
+     * Get all fields matching a type in class
+     *
+     * @param clazz     class object
+     * @param fieldType query type
+     * @param match     exact, assignable or primitive/wrapper-equivalent match
+     * @return field list matching the type
+     */
+    public List<Field> getFieldsByType(Class<?> clazz, Class<?> fieldType, ClassMetadata.TypeMatch match) {
+        return fieldAccessor.getFieldsByType(clazz, fieldType, match);
+    }
+
     /**
      * Get all methods of a class (including inherited methods)
      *
@@ -253,7 +657,7 @@ public class ReflectionToolkit {
     // ==================== Method Operations ====================
 
     /**
-     * Invoke object method (auto-match parameter types)
+     * Invoke object method, choosing the overload by Java rules (subtyping, boxing, widening, varargs)
      *
      * @param obj        object instance
      * @param methodName method name
@@ -278,6 +682,45 @@ public class ReflectionToolkit {
         return methodAccessor.invokeStatic(clazz, methodName, paramTypes, args);
     }
 
+    /**
+     * Compile method into an arity-specialized invoker, whose invoke0..invoke6 calls allocate no argument arrays
+     *
+     * @param clazz      class object
+     * @param methodName method name
+     * @param paramTypes exact parameter types
+     * @return cached invoker
+     */
+    public Invoker compileMethod(Class<?> clazz, String methodName, Class<?>... paramTypes) {
+        return methodAccessor.compile(clazz, methodName, paramTypes);
+    }
+
+    /**
+     * Implement a functional interface with a static method, an instance method taking the receiver as first
+     * argument, or a constructor (method name "new"), like a method reference; generated once and cached
+     *
+     * @param functionalInterface interface to implement
+     * @param owner               class declaring the method or constructor
+     * @param methodName          method name, or "new" for a constructor
+     * @param <F>                 interface type
+     * @return cached implementation
+     */
+    public <F> F bind(Class<F> functionalInterface, Class<?> owner, String methodName) {
+        return methodAccessor.bind(functionalInterface, owner, methodName);
+    }
+
+    /**
+     * Implement a functional interface with an instance method bound to the receiver, like {@code receiver::method}
+     *
+     * @param functionalInterface interface to implement
+     * @param receiver            object the method is called on
+     * @param methodName          method name
+     * @param <F>                 interface type
+     * @return implementation bound to the receiver
+     */
+    public <F> F bindTo(Class<F> functionalInterface, Object receiver, String methodName) {
+        return methodAccessor.bindTo(functionalInterface, receiver, methodName);
+    }
+
     /**
      * Get all methods with specified annotation in class
      *
@@ -324,7 +767,7 @@ public class ReflectionToolkit {
     // ==================== Object Copying ====================
 
     /**
-     * Deep copy object (recursively copy all fields)
+     * Deep copy object graph, preserving shared references and cycles
      *
      * @param source source object
      * @param <T>    generic type
@@ -345,6 +788,20 @@ public class ReflectionToolkit {
         objectCopier.copyProperties(source, target, ignoreFields);
     }
 
+    /**
+     * Compile the property copy between two classes, cached per classes and selection
+     *
+     * @param sourceClass source class
+     * @param targetClass target class
+     * @param strategy    whether the fields are the only ones copied or the ones skipped
+     * @param fields      field names to include or exclude
+     * @return cached copy plan
+     */
+    public CopyPlan compileCopyPlan(Class<?> sourceClass, Class<?> targetClass,
+                                    ObjectCopier.CopyStrategy strategy, String... fields) {
+        return objectCopier.compileCopyPlan(sourceClass, targetClass, strategy, fields);
+    }
+
     /**
      * Convert object to Map
      *
@@ -429,6 +886,34 @@ public class ReflectionToolkit {
 
     // ==================== Proxy ====================
 
+    /**
+     * Scan packages and build metadata of every class found in parallel
+     * <p>
+     * Runs on {@link io.github.qwzhang01.reflection.core.ReflectionConfig#getWarmUpExecutor()}.
+     * Classes that fail to load are reported instead of failing the whole run. With the default bounded
+     * metadata cache, raise {@code maxCacheSize} above the number of warmed classes or use the WEAK cache
+     * mode, otherwise later classes evict earlier ones; see {@link MetadataWarmer.WarmUpReport#getEvictedCount()}.
+     * </p>
+     *
+     * @param packageNames package names, e.g. "com.example.entity"
+     * @return future completed with a timing report
+     */
+    public CompletableFuture<MetadataWarmer.WarmUpReport> warmUp(String... packageNames) {
+        return new MetadataWarmer(context, scanner()).warmUp(context.getConfig().getWarmUpExecutor(), packageNames);
+    }
+
+    /**
+     * Build metadata of the given classes in parallel
+     *
+     * @param classes classes to warm up
+     * @return future completed with a timing report
+     */
+    public CompletableFuture<MetadataWarmer.WarmUpReport> warmUp(Collection<Class<?>> classes) {
+        return new MetadataWarmer(context, scanner()).warmUp(context.getConfig().getWarmUpExecutor(), classes);
+    }
+
+    // ==================== Metadata Warm-up ====================
+
     /**
      * Clear all caches
      */
@@ -458,6 +943,22 @@ public class ReflectionToolkit {
 
     // ==================== Configuration ====================
 
+    /**
+     * Scanner to use, the snapshot scanner when a snapshot file is configured
+     */
+    private ClassScanner scanner() {
+        Path snapshotFile = context.getConfig().getScanSnapshotFile();
+        if (snapshotFile == null) {
+            return scanner;
+        }
+        SnapshotScanner current = snapshotScanner;
+        if (current == null || !current.getSnapshotFile().equals(snapshotFile)) {
+            current = new SnapshotScanner(snapshotFile);
+            snapshotScanner = current;
+        }
+        return current;
+    }
+
     private static class SingletonHolder {
         private static final ReflectionToolkit INSTANCE = new ReflectionToolkit();
     }
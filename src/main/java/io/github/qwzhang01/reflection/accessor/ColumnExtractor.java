@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.accessor;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Column Extractor - Bulk reads of one field from many objects into an array
+ * <p>
+ * The field is compiled once into a {@link FieldHandle}; extraction is a tight loop over the list that reads
+ * {@code int}, {@code long} and {@code double} fields without boxing. Results go into a new array, a
+ * caller-provided array at an offset, or an NIO buffer starting at its position (the position is advanced
+ * past the written values).
+ * </p>
+ *
+ * <p>By default extraction runs on the calling thread. {@link #parallel(ForkJoinPool)} returns an extractor
+ * that splits lists of at least {@value #PARALLEL_THRESHOLD} elements into ranges processed by the pool.
+ * Lists without random access are copied to an array first. Elements must not be null.</p>
+ *
+ * <p>Extractors are immutable and thread-safe; sequential ones are cached per (class, field) by
+ * {@link FieldAccessor#compileColumn(Class, String)}.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class ColumnExtractor {
+
+    /**
+     * Minimum list size split across the pool by a parallel extractor
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 15;
+
+    private final FieldHandle handle;
+    private final ForkJoinPool pool;
+
+    ColumnExtractor(FieldHandle handle) {
+        this(handle, null);
+    }
+
+    private ColumnExtractor(FieldHandle handle, ForkJoinPool pool) {
+        this.handle = handle;
+        this.pool = pool;
+    }
+
+    /**
+     * Extractor for the same field that splits large lists across the pool
+     */
+    public ColumnExtractor parallel(ForkJoinPool pool) {
+        return new ColumnExtractor(handle, pool);
+    }
+
+    public boolean isParallel() {
+        return pool != null;
+    }
+
+    public FieldHandle getFieldHandle() {
+        return handle;
+    }
+
+    // ==================== int ====================
+
+    public int[] extractInts(List<?> objects) {
+        int[] target = new int[objects.size()];
+        extractInts(objects, target, 0);
+        return target;
+    }
+
+    public void extractInts(List<?> objects, int[] target, int offset) {
+        requireType(int.class);
+        checkBounds(objects.size(), target.length, offset);
+        List<?> list = indexable(objects);
+        FieldHandle handle = this.handle;
+        forEachRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[offset + i] = handle.getInt(list.get(i));
+            }
+        });
+    }
+
+    public void extractInts(List<?> objects, IntBuffer target) {
+        int position = target.position();
+        checkBounds(objects.size(), target.limit(), position);
+        if (target.hasArray()) {
+            extractInts(objects, target.array(), target.arrayOffset() + position);
+        } else {
+            requireType(int.class);
+            List<?> list = indexable(objects);
+            FieldHandle handle = this.handle;
+            forEachRange(list.size(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    target.put(position + i, handle.getInt(list.get(i)));
+                }
+            });
+        }
+        target.position(position + objects.size());
+    }
+
+    // ==================== long ====================
+
+    public long[] extractLongs(List<?> objects) {
+        long[] target = new long[objects.size()];
+        extractLongs(objects, target, 0);
+        return target;
+    }
+
+    public void extractLongs(List<?> objects, long[] target, int offset) {
+        requireType(long.class);
+        checkBounds(objects.size(), target.length, offset);
+        List<?> list = indexable(objects);
+        FieldHandle handle = this.handle;
+        forEachRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[offset + i] = handle.getLong(list.get(i));
+            }
+        });
+    }
+
+    public void extractLongs(List<?> objects, LongBuffer target) {
+        int position = target.position();
+        checkBounds(objects.size(), target.limit(), position);
+        if (target.hasArray()) {
+            extractLongs(objects, target.array(), target.arrayOffset() + position);
+        } else {
+            requireType(long.class);
+            List<?> list = indexable(objects);
+            FieldHandle handle = this.handle;
+            forEachRange(list.size(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    target.put(position + i, handle.getLong(list.get(i)));
+                }
+            });
+        }
+        target.position(position + objects.size());
+    }
+
+    // ==================== double ====================
+
+    public double[] extractDoubles(List<?> objects) {
+        double[] target = new double[objects.size()];
+        extractDoubles(objects, target, 0);
+        return target;
+    }
+
+    public void extractDoubles(List<?> objects, double[] target, int offset) {
+        requireType(double.class);
+        checkBounds(objects.size(), target.length, offset);
+        List<?> list = indexable(objects);
+        FieldHandle handle = this.handle;
+        forEachRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[offset + i] = handle.getDouble(list.get(i));
+            }
+        });
+    }
+
+    public void extractDoubles(List<?> objects, DoubleBuffer target) {
+        int position = target.position();
+        checkBounds(objects.size(), target.limit(), position);
+        if (target.hasArray()) {
+            extractDoubles(objects, target.array(), target.arrayOffset() + position);
+        } else {
+            requireType(double.class);
+            List<?> list = indexable(objects);
+            FieldHandle handle = this.handle;
+            forEachRange(list.size(), (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    target.put(position + i, handle.getDouble(list.get(i)));
+                }
+            });
+        }
+        target.position(position + objects.size());
+    }
+
+    // ==================== Object ====================
+
+    /**
+     * Extract the field values of any type, primitives boxed
+     */
+    public Object[] extractObjects(List<?> objects) {
+        Object[] target = new Object[objects.size()];
+        extractObjects(objects, target, 0);
+        return target;
+    }
+
+    public void extractObjects(List<?> objects, Object[] target, int offset) {
+        checkBounds(objects.size(), target.length, offset);
+        List<?> list = indexable(objects);
+        FieldHandle handle = this.handle;
+        forEachRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                target[offset + i] = handle.get(list.get(i));
+            }
+        });
+    }
+
+    /**
+     * Extract the field values as strings, null values stay null
+     */
+    public String[] extractStrings(List<?> objects) {
+        String[] target = new String[objects.size()];
+        extractStrings(objects, target, 0);
+        return target;
+    }
+
+    public void extractStrings(List<?> objects, String[] target, int offset) {
+        checkBounds(objects.size(), target.length, offset);
+        List<?> list = indexable(objects);
+        FieldHandle handle = this.handle;
+        forEachRange(list.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Object value = handle.get(list.get(i));
+                target[offset + i] = value == null ? null : value.toString();
+            }
+        });
+    }
+
+    private void requireType(Class<?> type) {
+        if (handle.getType() != type) {
+            throw new ReflectionException("Field " + handle.getName() + " is of type "
+                    + handle.getType().getName() + ", not " + type.getName());
+        }
+    }
+
+    private static void checkBounds(int count, int capacity, int offset) {
+        if (offset < 0 || capacity - offset < count) {
+            throw new ReflectionException("Target cannot hold " + count + " values at offset " + offset
+                    + ", capacity is " + capacity);
+        }
+    }
+
+    private static List<?> indexable(List<?> objects) {
+        return objects instanceof RandomAccess ? objects : Arrays.asList(objects.toArray());
+    }
+
+    private void forEachRange(int size, RangeAction action) {
+        if (pool == null || size < PARALLEL_THRESHOLD) {
+            action.run(0, size);
+            return;
+        }
+        // A few ranges per worker balance the load without creating many tiny tasks
+        int chunk = Math.max(PARALLEL_THRESHOLD / 4, size / (pool.getParallelism() * 4));
+        pool.invoke(new RangeTask(action, 0, size, chunk));
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void run(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeAction action;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RangeTask(RangeAction action, int from, int to, int chunk) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                action.run(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, middle, chunk), new RangeTask(action, middle, to, chunk));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnExtractor[" + handle.getField() + (pool == null ? "]" : ", parallel]");
+    }
+}
@@ -18,13 +18,17 @@ package io.github.qwzhang01.reflection.accessor;
 
 import io.github.qwzhang01.reflection.core.ClassMetadata;
 import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.core.ReflectionMetrics;
 import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.BeanAccess;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Field Accessor - Adopts Facade Design Pattern
@@ -38,6 +42,12 @@ import java.util.stream.Collectors;
  *   <li>Get all fields of a class (including inherited fields)</li>
  *   <li>Find field by field name</li>
  *   <li>Get and set field values (support private fields)</li>
+ *   <li>Get and set int, long, double and boolean field values without boxing</li>
+ *   <li>Compile reusable VarHandle-backed field handles</li>
+ *   <li>Bean properties read and written through generated getter/setter lambdas</li>
+ *   <li>Compiled nested property paths such as {@code order.items[0].sku}</li>
+ *   <li>Compiled field sets for reading and writing the same fields of many objects</li>
+ *   <li>Columnar extraction of one field from many objects into primitive arrays</li>
  *   <li>Filter fields by annotation</li>
  *   <li>Filter fields by type</li>
  *   <li>Batch set and get field values</li>
@@ -66,17 +76,15 @@ public class FieldAccessor {
      * Get specified field
      */
     public Optional<Field> getField(Class<?> clazz, String fieldName) {
-        return getAllFields(clazz).stream()
-                .filter(f -> f.getName().equals(fieldName))
-                .findFirst();
+        return Optional.ofNullable(getOrCreateMetadata(clazz).findField(fieldName));
     }
 
     /**
      * Get field value
      */
     public Object getValue(Object obj, String fieldName) {
-        Field field = getField(obj.getClass(), fieldName)
-                .orElseThrow(() -> new RuntimeException("Field does not exist: " + fieldName));
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        Field field = requireField(obj.getClass(), fieldName);
 
         try {
             return field.get(obj);
@@ -89,8 +97,8 @@ public class FieldAccessor {
      * Set field value
      */
     public void setValue(Object obj, String fieldName, Object value) {
-        Field field = getField(obj.getClass(), fieldName)
-                .orElseThrow(() -> new RuntimeException("Field does not exist: " + fieldName));
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        Field field = requireField(obj.getClass(), fieldName);
 
         try {
             field.set(obj, value);
@@ -99,23 +107,169 @@ public class FieldAccessor {
         }
     }
 
+    /**
+     * Get int field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type int
+     */
+    public int getInt(Object obj, String fieldName) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        return compile(obj.getClass(), fieldName).getInt(obj);
+    }
+
+    /**
+     * Set int field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type int
+     */
+    public void setInt(Object obj, String fieldName, int value) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        compile(obj.getClass(), fieldName).setInt(obj, value);
+    }
+
+    /**
+     * Get long field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type long
+     */
+    public long getLong(Object obj, String fieldName) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        return compile(obj.getClass(), fieldName).getLong(obj);
+    }
+
+    /**
+     * Set long field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type long
+     */
+    public void setLong(Object obj, String fieldName, long value) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        compile(obj.getClass(), fieldName).setLong(obj, value);
+    }
+
+    /**
+     * Get double field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type double
+     */
+    public double getDouble(Object obj, String fieldName) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        return compile(obj.getClass(), fieldName).getDouble(obj);
+    }
+
+    /**
+     * Set double field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type double
+     */
+    public void setDouble(Object obj, String fieldName, double value) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        compile(obj.getClass(), fieldName).setDouble(obj, value);
+    }
+
+    /**
+     * Get boolean field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type boolean
+     */
+    public boolean getBoolean(Object obj, String fieldName) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        return compile(obj.getClass(), fieldName).getBoolean(obj);
+    }
+
+    /**
+     * Set boolean field value without boxing
+     *
+     * @throws ReflectionException if the field is not of type boolean
+     */
+    public void setBoolean(Object obj, String fieldName, boolean value) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        compile(obj.getClass(), fieldName).setBoolean(obj, value);
+    }
+
+    /**
+     * Compile a reusable accessor for the field. The handle is cached per class and field,
+     * and skips the name lookup and access checks of {@link #getValue} and {@link #setValue}.
+     */
+    public FieldHandle compile(Class<?> clazz, String fieldName) {
+        FieldHandle handle = getOrCreateMetadata(clazz).getFieldHandle(fieldName);
+        if (handle == null) {
+            throw new RuntimeException("Field does not exist: " + fieldName);
+        }
+        return handle;
+    }
+
+    /**
+     * Get bean properties: one per non-static field, accessed through its getter/setter when present
+     */
+    public List<BeanProperty> getProperties(Class<?> clazz) {
+        return getOrCreateMetadata(clazz).getProperties();
+    }
+
+    /**
+     * Get specified bean property
+     */
+    public Optional<BeanProperty> getProperty(Class<?> clazz, String name) {
+        return Optional.ofNullable(getOrCreateMetadata(clazz).findProperty(name));
+    }
+
+    /**
+     * Get index-based access to all bean properties, backed by a generated hidden class where possible
+     */
+    public BeanAccess getBeanAccess(Class<?> clazz) {
+        return getOrCreateMetadata(clazz).getBeanAccess();
+    }
+
+    /**
+     * Compile a nested property path for the root class, cached per (root class, path)
+     *
+     * @see PropertyPath
+     */
+    public PropertyPath compilePath(Class<?> rootClass, String path) {
+        Map<String, PropertyPath> paths = getOrCreateMetadata(rootClass).getDerivedCache(PropertyPath.class);
+        PropertyPath compiled = paths.get(path);
+        if (compiled == null) {
+            compiled = paths.computeIfAbsent(path, p -> PropertyPath.compile(rootClass, p, context));
+        }
+        return compiled;
+    }
+
+    /**
+     * Get the value at the end of a nested property path, or null if any value along it is null
+     */
+    public Object getPathValue(Object root, String path) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        return compilePath(root.getClass(), path).get(root);
+    }
+
+    /**
+     * Set the value at the end of a nested property path
+     */
+    public void setPathValue(Object root, String path, Object value) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_SET);
+        compilePath(root.getClass(), path).set(root, value);
+    }
+
     /**
      * Get fields with specified annotation
      */
     public List<Field> getFieldsWithAnnotation(Class<?> clazz,
                                                Class<? extends Annotation> annotation) {
-        return getAllFields(clazz).stream()
-                .filter(f -> f.isAnnotationPresent(annotation))
-                .collect(Collectors.toList());
+        return getOrCreateMetadata(clazz).getFieldsWithAnnotation(annotation);
     }
 
     /**
      * Get fields of specified type
      */
     public List<Field> getFieldsByType(Class<?> clazz, Class<?> fieldType) {
-        return getAllFields(clazz).stream()
-                .filter(f -> f.getType().equals(fieldType))
-                .collect(Collectors.toList());
+        return getFieldsByType(clazz, fieldType, ClassMetadata.TypeMatch.EXACT);
+    }
+
+    /**
+     * Get fields matching the type, e.g. all fields assignable to Collection or all long/Long fields
+     */
+    public List<Field> getFieldsByType(Class<?> clazz, Class<?> fieldType, ClassMetadata.TypeMatch match) {
+        return getOrCreateMetadata(clazz).getFieldsByType(fieldType, match);
     }
 
     /**
@@ -126,18 +280,58 @@ public class FieldAccessor {
     }
 
     /**
-     * Batch get field values
+     * Batch get field values, through the cached {@link FieldSet} for the names
      */
     public java.util.Map<String, Object> getValues(Object obj, List<String> fieldNames) {
-        return fieldNames.stream()
-                .collect(Collectors.toMap(
-                        name -> name,
-                        name -> getValue(obj, name)
-                ));
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.FIELD_GET);
+        java.util.Map<String, Object> values = new java.util.HashMap<>(fieldNames.size() * 2);
+        compileFieldSet(obj.getClass(), fieldNames).read(obj, values);
+        return values;
+    }
+
+    /**
+     * Compile a plan for reading and writing the named fields, cached per (class, names)
+     *
+     * @see FieldSet
+     */
+    public FieldSet compileFieldSet(Class<?> clazz, List<String> fieldNames) {
+        ClassMetadata metadata = getOrCreateMetadata(clazz);
+        Map<List<String>, FieldSet> fieldSets = metadata.getDerivedCache(FieldSet.class);
+        FieldSet fieldSet = fieldSets.get(fieldNames);
+        if (fieldSet == null) {
+            fieldSet = FieldSet.compile(metadata, fieldNames);
+            FieldSet existing = fieldSets.putIfAbsent(fieldSet.getNames(), fieldSet);
+            if (existing != null) {
+                fieldSet = existing;
+            }
+        }
+        return fieldSet;
+    }
+
+    /**
+     * Compile a sequential extractor for bulk reads of one field, cached per (class, field)
+     *
+     * @see ColumnExtractor
+     */
+    public ColumnExtractor compileColumn(Class<?> clazz, String fieldName) {
+        ClassMetadata metadata = getOrCreateMetadata(clazz);
+        Map<String, ColumnExtractor> columns = metadata.getDerivedCache(ColumnExtractor.class);
+        ColumnExtractor column = columns.get(fieldName);
+        if (column == null) {
+            column = columns.computeIfAbsent(fieldName, name -> new ColumnExtractor(compile(clazz, name)));
+        }
+        return column;
+    }
+
+    private Field requireField(Class<?> clazz, String fieldName) {
+        Field field = getOrCreateMetadata(clazz).findField(fieldName);
+        if (field == null) {
+            throw new RuntimeException("Field does not exist: " + fieldName);
+        }
+        return field;
     }
 
     private ClassMetadata getOrCreateMetadata(Class<?> clazz) {
-        return context.getMetadataCache()
-                .computeIfAbsent(clazz, ClassMetadata::new);
+        return context.getMetadata(clazz);
     }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.accessor;
+
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Field Set - Compiled plan for reading and writing a fixed list of fields
+ * <p>
+ * The field names are resolved once, when the plan is compiled, into {@link FieldHandle}s. Reading and writing
+ * then walk that array: there are no name lookups, and reads into a caller-supplied array or map allocate
+ * nothing beyond boxing. Value positions follow the order of {@link #getNames()}.
+ * </p>
+ *
+ * <p>Plans are immutable, thread-safe and cached per (class, names) by
+ * {@link FieldAccessor#compileFieldSet(Class, List)}. They apply to instances of the class they were compiled
+ * for and its subclasses.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class FieldSet {
+
+    private final Class<?> targetClass;
+    private final List<String> names;
+    private final FieldHandle[] handles;
+
+    private FieldSet(Class<?> targetClass, List<String> names, FieldHandle[] handles) {
+        this.targetClass = targetClass;
+        this.names = names;
+        this.handles = handles;
+    }
+
+    /**
+     * Resolve every name against the class
+     *
+     * @throws RuntimeException if the class has no field with one of the names
+     */
+    static FieldSet compile(ClassMetadata metadata, List<String> names) {
+        List<String> copy = List.copyOf(names);
+        FieldHandle[] handles = new FieldHandle[copy.size()];
+        for (int i = 0; i < handles.length; i++) {
+            handles[i] = metadata.getFieldHandle(copy.get(i));
+            if (handles[i] == null) {
+                throw new RuntimeException("Field does not exist: " + copy.get(i));
+            }
+        }
+        return new FieldSet(metadata.getTargetClass(), copy, handles);
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public int size() {
+        return handles.length;
+    }
+
+    /**
+     * Read the fields into a new array
+     */
+    public Object[] read(Object obj) {
+        Object[] values = new Object[handles.length];
+        read(obj, values);
+        return values;
+    }
+
+    /**
+     * Read the fields into the first {@link #size()} slots of the array
+     */
+    public void read(Object obj, Object[] values) {
+        checkTarget(obj);
+        checkLength(values);
+        FieldHandle[] handles = this.handles;
+        for (int i = 0; i < handles.length; i++) {
+            values[i] = handles[i].get(obj);
+        }
+    }
+
+    /**
+     * Read the fields into the map, keyed by field name
+     */
+    public void read(Object obj, Map<String, Object> values) {
+        checkTarget(obj);
+        FieldHandle[] handles = this.handles;
+        for (int i = 0; i < handles.length; i++) {
+            values.put(names.get(i), handles[i].get(obj));
+        }
+    }
+
+    /**
+     * Write the fields from the first {@link #size()} slots of the array
+     */
+    public void write(Object obj, Object[] values) {
+        checkTarget(obj);
+        checkLength(values);
+        FieldHandle[] handles = this.handles;
+        for (int i = 0; i < handles.length; i++) {
+            handles[i].set(obj, values[i]);
+        }
+    }
+
+    /**
+     * Read the fields of every object, one row per object
+     */
+    public Object[][] readAll(List<?> objects) {
+        Object[][] rows = new Object[objects.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = read(objects.get(i));
+        }
+        return rows;
+    }
+
+    /**
+     * Write the fields of every object from the row at the same position
+     */
+    public void writeAll(List<?> objects, Object[][] rows) {
+        if (rows.length != objects.size()) {
+            throw new ReflectionException("Expected " + objects.size() + " rows, got " + rows.length);
+        }
+        for (int i = 0; i < rows.length; i++) {
+            write(objects.get(i), rows[i]);
+        }
+    }
+
+    private void checkTarget(Object obj) {
+        if (!targetClass.isInstance(obj)) {
+            throw new ReflectionException("Field set of " + targetClass.getName() + " cannot be applied to "
+                    + (obj == null ? "null" : obj.getClass().getName()));
+        }
+    }
+
+    private void checkLength(Object[] values) {
+        if (values.length < handles.length) {
+            throw new ReflectionException("Expected at least " + handles.length + " values, got " + values.length);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "FieldSet[" + targetClass.getSimpleName() + ":" + names + "]";
+    }
+}
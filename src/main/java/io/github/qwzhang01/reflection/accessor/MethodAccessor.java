@@ -17,15 +17,25 @@ package io.github.qwzhang01.reflection.accessor;
 
 
 import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.core.OverloadResolver;
 import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.core.ReflectionMetrics;
 import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.Invoker;
+import io.github.qwzhang01.reflection.invoke.LambdaFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -39,7 +49,9 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>Get all methods of a class (including inherited methods)</li>
  *   <li>Find method by method name and parameter types</li>
- *   <li>Dynamically invoke instance methods and static methods</li>
+ *   <li>Compile methods into arity-specialized {@link Invoker}s</li>
+ *   <li>Bind methods and constructors to functional interfaces, like method references</li>
+ *   <li>Dynamically invoke instance methods and static methods, resolving overloads like the compiler</li>
  *   <li>Filter methods by annotation</li>
  *   <li>Filter methods by return type</li>
  *   <li>Get getter and setter methods</li>
@@ -50,6 +62,14 @@ import java.util.stream.Collectors;
  */
 public class MethodAccessor {
 
+    /**
+     * Method name that binds a constructor, as in {@code Owner::new}
+     */
+    public static final String CONSTRUCTOR = "new";
+
+    private static final Object BINDINGS = new Object();
+    private static final Object RECEIVER_BINDERS = new Object();
+
     private final ReflectionContext context;
 
     public MethodAccessor() {
@@ -68,27 +88,167 @@ public class MethodAccessor {
      * Get specified method
      */
     public Optional<Method> getMethod(Class<?> clazz, String methodName, Class<?>... paramTypes) {
-        return getAllMethods(clazz).stream()
-                .filter(m -> m.getName().equals(methodName))
-                .filter(m -> Arrays.equals(m.getParameterTypes(), paramTypes))
-                .findFirst();
+        return Optional.ofNullable(getOrCreateMetadata(clazz).findMethod(methodName, paramTypes));
+    }
+
+    /**
+     * Compile the method with the exact parameter types into an {@link Invoker}, cached per method
+     */
+    public Invoker compile(Class<?> clazz, String methodName, Class<?>... paramTypes) {
+        ClassMetadata metadata = getOrCreateMetadata(clazz);
+        Method method = metadata.findMethod(methodName, paramTypes);
+        if (method == null) {
+            throw new RuntimeException("Method does not exist: " + methodName);
+        }
+        Map<Method, Invoker> invokers = metadata.getDerivedCache(Invoker.class);
+        Invoker invoker = invokers.get(method);
+        return invoker != null ? invoker : invokers.computeIfAbsent(method, Invoker::of);
+    }
+
+    /**
+     * Implement the functional interface with a method or constructor of the owner, like a method reference.
+     * Static methods take the interface arguments as they are, instance methods take the receiver as the first
+     * argument, and the name {@value #CONSTRUCTOR} binds a constructor. The implementation is generated with
+     * LambdaMetafactory and cached per (owner, interface, name).
+     *
+     * @throws ReflectionException if no single member fits the interface
+     */
+    public <F> F bind(Class<F> functionalInterface, Class<?> owner, String methodName) {
+        ClassMetadata metadata = getOrCreateMetadata(owner);
+        Map<List<Object>, Object> bindings = metadata.getDerivedCache(BINDINGS);
+        List<Object> key = List.of(functionalInterface, methodName);
+        Object binding = bindings.get(key);
+        if (binding == null) {
+            binding = bindings.computeIfAbsent(key, k -> LambdaFactory.implement(functionalInterface,
+                    bindTarget(metadata, functionalInterface, methodName)));
+        }
+        return functionalInterface.cast(binding);
+    }
+
+    /**
+     * Implement the functional interface with an instance method bound to the receiver, like {@code receiver::method}.
+     * The lambda class is generated once per (receiver class, interface, name); each call only creates the instance.
+     *
+     * @throws ReflectionException if no single method fits the interface
+     */
+    public <F> F bindTo(Class<F> functionalInterface, Object receiver, String methodName) {
+        ClassMetadata metadata = getOrCreateMetadata(receiver.getClass());
+        Map<List<Object>, Function<Object, F>> binders = metadata.getDerivedCache(RECEIVER_BINDERS);
+        List<Object> key = List.of(functionalInterface, methodName);
+        Function<Object, F> binder = binders.get(key);
+        if (binder == null) {
+            binder = binders.computeIfAbsent(key, k -> {
+                Class<?>[] paramTypes = LambdaFactory.functionalMethod(functionalInterface).getParameterTypes();
+                List<Method> candidates = new ArrayList<>();
+                for (Method method : metadata.getMethodsByName(methodName)) {
+                    if (!Modifier.isStatic(method.getModifiers()) && method.getParameterCount() == paramTypes.length) {
+                        candidates.add(method);
+                    }
+                }
+                Method target = pick(candidates, paramTypes, methodName);
+                if (target == null) {
+                    throw new RuntimeException("Method does not exist: " + methodName);
+                }
+                return LambdaFactory.receiverBinder(functionalInterface, target);
+            });
+        }
+        return binder.apply(receiver);
+    }
+
+    private static Executable bindTarget(ClassMetadata metadata, Class<?> functionalInterface, String methodName) {
+        Class<?>[] paramTypes = LambdaFactory.functionalMethod(functionalInterface).getParameterTypes();
+        int arity = paramTypes.length;
+        if (CONSTRUCTOR.equals(methodName)) {
+            List<Constructor<?>> candidates = new ArrayList<>();
+            for (Constructor<?> constructor : metadata.getConstructors()) {
+                if (accepts(constructor, arity)) {
+                    candidates.add(constructor);
+                }
+            }
+            Executable target = pick(candidates, paramTypes, methodName);
+            if (target == null) {
+                throw new RuntimeException("Constructor does not exist");
+            }
+            return target;
+        }
+
+        List<Method> statics = new ArrayList<>();
+        List<Method> instances = new ArrayList<>();
+        Class<?> owner = metadata.getTargetClass();
+        boolean receiverFits = arity > 0 && !paramTypes[0].isPrimitive()
+                && (paramTypes[0].isAssignableFrom(owner) || owner.isAssignableFrom(paramTypes[0]));
+        for (Method method : metadata.getMethodsByName(methodName)) {
+            if (Modifier.isStatic(method.getModifiers())) {
+                if (accepts(method, arity)) {
+                    statics.add(method);
+                }
+            } else if (receiverFits && accepts(method, arity - 1)) {
+                instances.add(method);
+            }
+        }
+        Method staticTarget = pick(statics, paramTypes, methodName);
+        Method instanceTarget = receiverFits
+                ? pick(instances, Arrays.copyOfRange(paramTypes, 1, arity), methodName) : null;
+        if (staticTarget != null && instanceTarget != null) {
+            throw new ReflectionException("Ambiguous binding of " + methodName + ": both " + staticTarget
+                    + " and " + instanceTarget + " fit " + functionalInterface.getName());
+        }
+        if (staticTarget == null && instanceTarget == null) {
+            throw new RuntimeException("Method does not exist: " + methodName);
+        }
+        return staticTarget != null ? staticTarget : instanceTarget;
+    }
+
+    private static boolean accepts(Executable executable, int arity) {
+        int count = executable.getParameterCount();
+        return count == arity || (executable.isVarArgs() && arity >= count - 1);
+    }
+
+    /**
+     * The only candidate, or the one Java overload resolution picks for the interface parameter types
+     */
+    private static <E extends Executable> E pick(List<E> candidates, Class<?>[] paramTypes, String methodName) {
+        if (candidates.size() <= 1) {
+            return candidates.isEmpty() ? null : candidates.get(0);
+        }
+        OverloadResolver.Resolution<E> resolution = OverloadResolver.resolve(candidates, paramTypes);
+        if (resolution == null) {
+            throw new ReflectionException("Cannot choose among the overloads of " + methodName
+                    + " for parameter types " + Arrays.toString(paramTypes) + ": " + candidates);
+        }
+        return resolution.getExecutable();
     }
 
     /**
-     * Invoke method
+     * Invoke method, choosing the overload the way Java would: subtyping first, then boxing, unboxing
+     * and primitive widening, then varargs. The choice is cached per (class, name, argument classes).
+     *
+     * @throws ReflectionException if the call is ambiguous or the method fails
      */
     public Object invoke(Object obj, String methodName, Object... args) {
-        Class<?>[] paramTypes = Arrays.stream(args)
-                .map(arg -> arg == null ? Object.class : arg.getClass())
-                .toArray(Class<?>[]::new);
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.METHOD_INVOKE);
+        Class<?>[] argTypes = new Class<?>[args.length];
+        for (int i = 0; i < args.length; i++) {
+            argTypes[i] = args[i] == null ? null : args[i].getClass();
+        }
+        OverloadResolver.Resolution<Method> resolution = getOrCreateMetadata(obj.getClass())
+                .resolveMethod(methodName, argTypes);
+        if (resolution == null) {
+            throw new RuntimeException("Method does not exist: " + methodName);
+        }
 
-        return invoke(obj, methodName, paramTypes, args);
+        try {
+            return resolution.getExecutable().invoke(obj, resolution.adaptArguments(args));
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new ReflectionException("Failed to invoke method: " + methodName, e);
+        }
     }
 
     /**
      * Invoke method (specify parameter types)
      */
     public Object invoke(Object obj, String methodName, Class<?>[] paramTypes, Object... args) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.METHOD_INVOKE);
         Method method = getMethod(obj.getClass(), methodName, paramTypes)
                 .orElseThrow(() -> new RuntimeException("Method does not exist: " + methodName));
 
@@ -104,6 +264,7 @@ public class MethodAccessor {
      */
     public Object invokeStatic(Class<?> clazz, String methodName,
                                Class<?>[] paramTypes, Object... args) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.STATIC_METHOD_INVOKE);
         Method method = getMethod(clazz, methodName, paramTypes)
                 .orElseThrow(() -> new RuntimeException("Static method does not exist: " + methodName));
 
@@ -119,9 +280,7 @@ public class MethodAccessor {
      */
     public List<Method> getMethodsWithAnnotation(Class<?> clazz,
                                                  Class<? extends Annotation> annotation) {
-        return getAllMethods(clazz).stream()
-                .filter(m -> m.isAnnotationPresent(annotation))
-                .collect(Collectors.toList());
+        return getOrCreateMetadata(clazz).getMethodsWithAnnotation(annotation);
     }
 
     /**
@@ -137,26 +296,17 @@ public class MethodAccessor {
      * Get getter methods
      */
     public List<Method> getGetters(Class<?> clazz) {
-        return getAllMethods(clazz).stream()
-                .filter(m -> m.getName().startsWith("get") || m.getName().startsWith("is"))
-                .filter(m -> m.getParameterCount() == 0)
-                .filter(m -> !m.getReturnType().equals(void.class))
-                .collect(Collectors.toList());
+        return getOrCreateMetadata(clazz).getGetters();
     }
 
     /**
      * Get setter methods
      */
     public List<Method> getSetters(Class<?> clazz) {
-        return getAllMethods(clazz).stream()
-                .filter(m -> m.getName().startsWith("set"))
-                .filter(m -> m.getParameterCount() == 1)
-                .filter(m -> m.getReturnType().equals(void.class))
-                .collect(Collectors.toList());
+        return getOrCreateMetadata(clazz).getSetters();
     }
 
     private ClassMetadata getOrCreateMetadata(Class<?> clazz) {
-        return context.getMetadataCache()
-                .computeIfAbsent(clazz, ClassMetadata::new);
+        return context.getMetadata(clazz);
     }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.accessor;
+
+import io.github.qwzhang01.reflection.core.Primitives;
+import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Property Path - Compiled accessor for nested properties, adopts Interpreter Design Pattern
+ * <p>
+ * A path such as {@code order.customer.address.city}, {@code items[3].sku} or {@code attrs['k']} is parsed
+ * once into a chain of segments:
+ * </p>
+ * <ul>
+ *   <li>{@code name}: a bean property, read and written through its compiled {@link BeanProperty},
+ *       or a key when the current value is a {@link Map}</li>
+ *   <li>{@code [3]}: an element of a {@link List} or an array</li>
+ *   <li>{@code ['k']} or {@code ["k"]}: a value of a {@link Map}</li>
+ * </ul>
+ *
+ * <p>Each property segment remembers the property it resolved for the last class it saw, so walking objects
+ * of the same classes never looks a name up again. Reads are null-safe: a null value, a missing map key or an
+ * index out of range along the way yields null. Writes require every value before the last segment to exist.</p>
+ *
+ * <p>Compiled paths are immutable apart from their per-segment caches, thread-safe, and cached per
+ * (root class, path) by {@link FieldAccessor#compilePath(Class, String)}.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class PropertyPath {
+
+    private final Class<?> rootClass;
+    private final String path;
+    private final Segment[] segments;
+
+    private PropertyPath(Class<?> rootClass, String path, Segment[] segments) {
+        this.rootClass = rootClass;
+        this.path = path;
+        this.segments = segments;
+    }
+
+    /**
+     * Parse and compile the path. The first property is checked against the root class right away.
+     *
+     * @throws ReflectionException if the path is malformed or the root class has no such property
+     */
+    static PropertyPath compile(Class<?> rootClass, String path, ReflectionContext context) {
+        List<Segment> segments = parse(path, context);
+        Segment first = segments.get(0);
+        if (first instanceof PropertySegment && !Map.class.isAssignableFrom(rootClass)
+                && context.getMetadata(rootClass).findProperty(((PropertySegment) first).name) == null) {
+            throw new ReflectionException("Property does not exist: " + ((PropertySegment) first).name
+                    + " on " + rootClass.getName());
+        }
+        return new PropertyPath(rootClass, path, segments.toArray(new Segment[0]));
+    }
+
+    public Class<?> getRootClass() {
+        return rootClass;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Read the value at the end of the path
+     *
+     * @return the value, or null if any value along the path is null or missing
+     */
+    public Object get(Object root) {
+        Object current = root;
+        for (Segment segment : segments) {
+            if (current == null) {
+                return null;
+            }
+            current = segment.get(current);
+        }
+        return current;
+    }
+
+    /**
+     * Read the value at the end of the path as the given type; primitive types return their wrapper
+     *
+     * @throws ClassCastException if the value is not of that type
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object root, Class<T> type) {
+        return (T) Primitives.wrap(type).cast(get(root));
+    }
+
+    /**
+     * Write the value at the end of the path
+     *
+     * @throws ReflectionException if a value before the last segment is null or missing
+     */
+    public void set(Object root, Object value) {
+        Object current = root;
+        int last = segments.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (current == null) {
+                break;
+            }
+            current = segments[i].get(current);
+        }
+        if (current == null) {
+            throw new ReflectionException("Cannot set " + path + ": intermediate value is null");
+        }
+        segments[last].set(current, value);
+    }
+
+    @Override
+    public String toString() {
+        return "PropertyPath[" + rootClass.getSimpleName() + ":" + path + "]";
+    }
+
+    private static List<Segment> parse(String path, ReflectionContext context) {
+        List<Segment> segments = new ArrayList<>();
+        int length = path.length();
+        int i = 0;
+        while (i < length) {
+            char c = path.charAt(i);
+            if (c == '[') {
+                int close = path.indexOf(']', i);
+                if (close < 0) {
+                    throw invalid(path);
+                }
+                String inner = path.substring(i + 1, close).trim();
+                if (inner.length() >= 2 && (inner.charAt(0) == '\'' || inner.charAt(0) == '"')
+                        && inner.charAt(inner.length() - 1) == inner.charAt(0)) {
+                    segments.add(new KeySegment(inner.substring(1, inner.length() - 1)));
+                } else {
+                    int index;
+                    try {
+                        index = Integer.parseInt(inner);
+                    } catch (NumberFormatException e) {
+                        throw invalid(path);
+                    }
+                    if (index < 0) {
+                        throw invalid(path);
+                    }
+                    segments.add(new IndexSegment(index));
+                }
+                i = close + 1;
+                continue;
+            }
+            // A name starts the path or follows a dot
+            if (c == '.') {
+                if (segments.isEmpty()) {
+                    throw invalid(path);
+                }
+                i++;
+            } else if (!segments.isEmpty()) {
+                throw invalid(path);
+            }
+            int end = i;
+            while (end < length && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                end++;
+            }
+            String name = path.substring(i, end);
+            if (name.isEmpty() || !isIdentifier(name)) {
+                throw invalid(path);
+            }
+            segments.add(new PropertySegment(name, context));
+            i = end;
+        }
+        if (segments.isEmpty()) {
+            throw invalid(path);
+        }
+        return segments;
+    }
+
+    private static boolean isIdentifier(String name) {
+        if (!Character.isJavaIdentifierStart(name.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isJavaIdentifierPart(name.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ReflectionException invalid(String path) {
+        return new ReflectionException("Invalid property path: " + path);
+    }
+
+    private abstract static class Segment {
+        abstract Object get(Object target);
+
+        abstract void set(Object target, Object value);
+    }
+
+    /**
+     * Bean property, resolved against the runtime class of the target with a monomorphic inline cache
+     */
+    private static final class PropertySegment extends Segment {
+        private final String name;
+        private final ReflectionContext context;
+        private volatile Resolved cached;
+
+        PropertySegment(String name, ReflectionContext context) {
+            this.name = name;
+            this.context = context;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        Object get(Object target) {
+            if (target instanceof Map) {
+                return ((Map<Object, Object>) target).get(name);
+            }
+            return resolve(target.getClass()).get(target);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object target, Object value) {
+            if (target instanceof Map) {
+                ((Map<Object, Object>) target).put(name, value);
+                return;
+            }
+            resolve(target.getClass()).set(target, value);
+        }
+
+        private BeanProperty resolve(Class<?> type) {
+            Resolved resolved = cached;
+            if (resolved == null || resolved.type != type) {
+                BeanProperty property = context.getMetadata(type).findProperty(name);
+                if (property == null) {
+                    throw new ReflectionException("Property does not exist: " + name + " on " + type.getName());
+                }
+                resolved = new Resolved(type, property);
+                cached = resolved;
+            }
+            return resolved.property;
+        }
+    }
+
+    private static final class Resolved {
+        final Class<?> type;
+        final BeanProperty property;
+
+        Resolved(Class<?> type, BeanProperty property) {
+            this.type = type;
+            this.property = property;
+        }
+    }
+
+    /**
+     * Element of a list or an array
+     */
+    private static final class IndexSegment extends Segment {
+        private final int index;
+
+        IndexSegment(int index) {
+            this.index = index;
+        }
+
+        @Override
+        Object get(Object target) {
+            if (target instanceof List) {
+                List<?> list = (List<?>) target;
+                return index < list.size() ? list.get(index) : null;
+            }
+            if (target.getClass().isArray()) {
+                return index < Array.getLength(target) ? Array.get(target, index) : null;
+            }
+            throw new ReflectionException("Cannot index into " + target.getClass().getName());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object target, Object value) {
+            if (target instanceof List) {
+                ((List<Object>) target).set(index, value);
+            } else if (target.getClass().isArray()) {
+                Array.set(target, index, value);
+            } else {
+                throw new ReflectionException("Cannot index into " + target.getClass().getName());
+            }
+        }
+    }
+
+    /**
+     * Value of a map
+     */
+    private static final class KeySegment extends Segment {
+        private final String key;
+
+        KeySegment(String key) {
+            this.key = key;
+        }
+
+        @Override
+        Object get(Object target) {
+            if (target instanceof Map) {
+                return ((Map<?, ?>) target).get(key);
+            }
+            throw new ReflectionException("Cannot look up key '" + key + "' in " + target.getClass().getName());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void set(Object target, Object value) {
+            if (!(target instanceof Map)) {
+                throw new ReflectionException("Cannot put key '" + key + "' into " + target.getClass().getName());
+            }
+            ((Map<Object, Object>) target).put(key, value);
+        }
+    }
+}
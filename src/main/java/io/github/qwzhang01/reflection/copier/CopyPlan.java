@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.copier;
+
+import io.github.qwzhang01.reflection.accessor.FieldAccessor;
+import io.github.qwzhang01.reflection.invoke.BeanAccess;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Copy Plan - Compiled property copy from one class to another
+ * <p>
+ * The properties the two classes share by name and type are matched once, when the plan is compiled, into
+ * flat arrays of (source index, target index) pairs over the {@link BeanAccess} of each class. Copying then
+ * walks those arrays through two generated accessors: there are no name lookups, type comparisons or ignore
+ * sets on the way, and {@code int}, {@code long} and {@code double} properties are copied without boxing.
+ * </p>
+ *
+ * <p>Target properties that cannot be written are left out, as the field-by-field copier did: final fields
+ * without a setter, which includes every record component.</p>
+ *
+ * <p>Plans are immutable, thread-safe and cached per (source class, target class, strategy, names) by
+ * {@link ObjectCopier#compileCopyPlan(Class, Class, ObjectCopier.CopyStrategy, String...)}.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class CopyPlan {
+
+    private static final byte OBJECT = 0;
+    private static final byte INT = 1;
+    private static final byte LONG = 2;
+    private static final byte DOUBLE = 3;
+
+    private final BeanAccess sourceAccess;
+    private final BeanAccess targetAccess;
+    private final int[] sourceIndexes;
+    private final int[] targetIndexes;
+    private final byte[] kinds;
+
+    private CopyPlan(BeanAccess sourceAccess, BeanAccess targetAccess,
+                     int[] sourceIndexes, int[] targetIndexes, byte[] kinds) {
+        this.sourceAccess = sourceAccess;
+        this.targetAccess = targetAccess;
+        this.sourceIndexes = sourceIndexes;
+        this.targetIndexes = targetIndexes;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Match every selected source property with the target property of the same name and type
+     */
+    static CopyPlan compile(Class<?> sourceClass, Class<?> targetClass, Predicate<String> selected,
+                            FieldAccessor fieldAccessor) {
+        BeanAccess sourceAccess = fieldAccessor.getBeanAccess(sourceClass);
+        BeanAccess targetAccess = fieldAccessor.getBeanAccess(targetClass);
+        List<BeanProperty> sourceProperties = sourceAccess.getProperties();
+        List<BeanProperty> targetProperties = targetAccess.getProperties();
+
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < sourceProperties.size(); i++) {
+            BeanProperty sourceProperty = sourceProperties.get(i);
+            if (!selected.test(sourceProperty.getName())) {
+                continue;
+            }
+            int j = targetAccess.indexOf(sourceProperty.getName());
+            if (j >= 0 && targetProperties.get(j).getType().equals(sourceProperty.getType())
+                    && isWritable(targetProperties.get(j))) {
+                pairs.add(new int[]{i, j});
+            }
+        }
+
+        int size = pairs.size();
+        int[] sourceIndexes = new int[size];
+        int[] targetIndexes = new int[size];
+        byte[] kinds = new byte[size];
+        for (int k = 0; k < size; k++) {
+            sourceIndexes[k] = pairs.get(k)[0];
+            targetIndexes[k] = pairs.get(k)[1];
+            kinds[k] = kindOf(sourceProperties.get(sourceIndexes[k]).getType());
+        }
+        return new CopyPlan(sourceAccess, targetAccess, sourceIndexes, targetIndexes, kinds);
+    }
+
+    private static boolean isWritable(BeanProperty property) {
+        return property.getSetter() != null || !Modifier.isFinal(property.getField().getModifiers());
+    }
+
+    private static byte kindOf(Class<?> type) {
+        if (type == int.class) {
+            return INT;
+        }
+        if (type == long.class) {
+            return LONG;
+        }
+        if (type == double.class) {
+            return DOUBLE;
+        }
+        return OBJECT;
+    }
+
+    public Class<?> getSourceClass() {
+        return sourceAccess.getBeanClass();
+    }
+
+    public Class<?> getTargetClass() {
+        return targetAccess.getBeanClass();
+    }
+
+    /**
+     * Names of the copied properties, in copy order
+     */
+    public List<String> getPropertyNames() {
+        List<BeanProperty> properties = sourceAccess.getProperties();
+        List<String> names = new ArrayList<>(sourceIndexes.length);
+        for (int index : sourceIndexes) {
+            names.add(properties.get(index).getName());
+        }
+        return names;
+    }
+
+    /**
+     * Copy every planned property from the source to the target
+     */
+    public void copy(Object source, Object target) {
+        BeanAccess sourceAccess = this.sourceAccess;
+        BeanAccess targetAccess = this.targetAccess;
+        for (int k = 0; k < kinds.length; k++) {
+            int from = sourceIndexes[k];
+            int to = targetIndexes[k];
+            switch (kinds[k]) {
+                case INT:
+                    targetAccess.setInt(target, to, sourceAccess.getInt(source, from));
+                    break;
+                case LONG:
+                    targetAccess.setLong(target, to, sourceAccess.getLong(source, from));
+                    break;
+                case DOUBLE:
+                    targetAccess.setDouble(target, to, sourceAccess.getDouble(source, from));
+                    break;
+                default:
+                    targetAccess.set(target, to, sourceAccess.get(source, from));
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CopyPlan[" + getSourceClass().getSimpleName() + " -> " + getTargetClass().getSimpleName()
+                + ", " + getPropertyNames() + "]";
+    }
+}
@@ -0,0 +1,529 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.copier;
+
+import io.github.qwzhang01.reflection.accessor.FieldAccessor;
+import io.github.qwzhang01.reflection.core.Primitives;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.factory.ArgumentPlan;
+import io.github.qwzhang01.reflection.factory.InstanceFactory;
+
+import java.io.File;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Currency;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * Deep Copier - Iterative copy of one object graph
+ * <p>
+ * Every source object is copied exactly once: a reference table keyed by identity maps it to its copy, so
+ * shared references stay shared and cycles are closed in the copy. The graph is walked depth-first with an
+ * explicit stack instead of recursion, so its depth is limited by memory, not by the thread stack.
+ * </p>
+ *
+ * <p>Objects are created empty when first reached, so references back to them can be resolved, and filled once
+ * everything they reference has been visited. The walk tracks strongly connected components (Tarjan): when a
+ * component is left, every object in it and below it is filled, and only then are its collections and maps
+ * populated, so hash codes are computed on complete elements. Records and
+ * {@link io.github.qwzhang01.reflection.factory.Creator} classes cannot exist empty: they are constructed after
+ * the whole subgraph of their constructor arguments is complete. When an argument leads back to the object
+ * under construction, objects and arrays on that cycle receive the reference once it is constructed; a
+ * collection, map or other constructor argument on the cycle cannot be completed first and is reported as a
+ * {@link ReflectionException}.</p>
+ *
+ * <ul>
+ *   <li>Primitive wrappers, strings, enums and hidden classes are shared, not copied</li>
+ *   <li>Objects of JDK classes whose fields cannot be opened are shared when the class is immutable, such as
+ *       {@code java.time} values or {@link java.util.UUID}, and copied through their public API when it is a
+ *       known mutable type ({@link java.util.Date} and other {@link Cloneable} classes with a public
+ *       {@code clone()}, atomics, string builders); any other such class is reported</li>
+ *   <li>Arrays are copied element by element, primitive arrays in one step</li>
+ *   <li>Collections and maps are rebuilt through the container factories of {@link ObjectCopier}; a rebuilt
+ *       container that does not fit the field, element or argument it is assigned to is reported</li>
+ * </ul>
+ *
+ * <p>One instance copies one graph and is not thread-safe.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+final class DeepCopier {
+
+    /**
+     * Immutable JDK classes whose instances are shared, with their subclasses
+     */
+    private static final List<Class<?>> IMMUTABLE_JDK_TYPES = List.of(UUID.class, BigDecimal.class,
+            BigInteger.class, Locale.class, Currency.class, URI.class, URL.class, Pattern.class, File.class,
+            Path.class, Charset.class, InetAddress.class, InetSocketAddress.class);
+
+    /**
+     * How instances of a JDK class whose fields cannot be opened are copied, per class
+     */
+    private static final ClassValue<UnaryOperator<Object>> JDK_VALUE_COPIERS = new ClassValue<>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return jdkValueCopier(type);
+        }
+    };
+
+    private final FieldAccessor fieldAccessor;
+    private final InstanceFactory instanceFactory;
+    private final Function<Class<?>, UnaryOperator<Object>> containerFactories;
+
+    private final Map<Object, Node> nodes = new IdentityHashMap<>();
+    private final Map<Class<?>, Field[]> copiedFields = new HashMap<>();
+    private final ArrayDeque<Node> walk = new ArrayDeque<>();
+    private final ArrayDeque<Node> component = new ArrayDeque<>();
+    private int nextIndex;
+
+    DeepCopier(FieldAccessor fieldAccessor, InstanceFactory instanceFactory,
+               Function<Class<?>, UnaryOperator<Object>> containerFactories) {
+        this.fieldAccessor = fieldAccessor;
+        this.instanceFactory = instanceFactory;
+        this.containerFactories = containerFactories;
+    }
+
+    /**
+     * Copy the graph reachable from the root
+     */
+    Object copy(Object root) {
+        if (isLeaf(root)) {
+            return shareOrCopyLeaf(root);
+        }
+        Node rootNode = enter(root);
+        while (!walk.isEmpty()) {
+            Node node = walk.peek();
+            if (node.next < node.children.length) {
+                Object child = node.children[node.next++];
+                if (isLeaf(child)) {
+                    continue;
+                }
+                Node childNode = nodes.get(child);
+                if (childNode == null) {
+                    enter(child);
+                } else if (childNode.onStack) {
+                    node.low = Math.min(node.low, childNode.index);
+                }
+                continue;
+            }
+
+            walk.pop();
+            finish(node);
+            if (node.low == node.index) {
+                closeComponent(node);
+            }
+            Node parent = walk.peek();
+            if (parent != null) {
+                parent.low = Math.min(parent.low, node.low);
+            }
+        }
+        return rootNode.copy;
+    }
+
+    /**
+     * First visit: register the node, create the empty copy where possible and list what it references
+     */
+    private Node enter(Object source) {
+        Node node = new Node(source, nextIndex++);
+        nodes.put(source, node);
+        walk.push(node);
+        component.push(node);
+
+        Class<?> type = source.getClass();
+        if (type.isArray()) {
+            node.copy = Array.newInstance(type.getComponentType(), Array.getLength(source));
+            node.children = ((Object[]) source).clone();
+        } else if (source instanceof Collection) {
+            node.copy = containerFactories.apply(type).apply(source);
+            node.children = ((Collection<?>) source).toArray();
+        } else if (type == AtomicReference.class) {
+            node.copy = new AtomicReference<>();
+            node.children = new Object[]{((AtomicReference<?>) source).get()};
+        } else if (source instanceof Map) {
+            node.copy = containerFactories.apply(type).apply(source);
+            Map<?, ?> map = (Map<?, ?>) source;
+            Object[] children = new Object[map.size() * 2];
+            int i = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                children[i++] = entry.getKey();
+                children[i++] = entry.getValue();
+            }
+            node.children = children;
+        } else {
+            Optional<? extends ArgumentPlan<?>> plan = instanceFactory.getArgumentPlan(type);
+            Field[] fields = copiedFields(type);
+            int argumentCount = plan.map(ArgumentPlan::size).orElse(0);
+            Object[] children = new Object[argumentCount + fields.length];
+            if (plan.isPresent()) {
+                node.plan = plan.get();
+                plan.get().readArguments(source, children);
+            } else {
+                node.copy = instanceFactory.instantiate(type);
+            }
+            for (int i = 0; i < fields.length; i++) {
+                try {
+                    children[argumentCount + i] = fields[i].get(source);
+                } catch (IllegalAccessException e) {
+                    throw new ReflectionException("Failed to deep copy field: " + fields[i].getName(), e);
+                }
+            }
+            node.children = children;
+        }
+        return node;
+    }
+
+    /**
+     * Last visit: everything the node references has a copy. Fill arrays and objects, construct records and
+     * creator classes, stage the contents of collections and maps.
+     */
+    private void finish(Node node) {
+        Object source = node.source;
+        Object[] children = node.children;
+        if (source instanceof Object[]) {
+            Object[] target = (Object[]) node.copy;
+            Class<?> componentType = target.getClass().getComponentType();
+            for (int i = 0; i < children.length; i++) {
+                int index = i;
+                if (!deferred(children[i], copy -> target[index] = copy)) {
+                    target[i] = copyOf(children[i], componentType,
+                            "element of " + source.getClass().getSimpleName());
+                }
+            }
+        } else if (source instanceof AtomicReference) {
+            @SuppressWarnings("unchecked")
+            AtomicReference<Object> target = (AtomicReference<Object>) node.copy;
+            if (!deferred(children[0], target::set)) {
+                target.set(copyOf(children[0], Object.class, null));
+            }
+        } else if (source instanceof Collection || source instanceof Map) {
+            Object[] staged = new Object[children.length];
+            for (int i = 0; i < children.length; i++) {
+                int index = i;
+                if (!deferred(children[i], copy -> staged[index] = copy)) {
+                    staged[i] = copyOf(children[i], Object.class, null);
+                }
+            }
+            node.staged = staged;
+        } else {
+            int argumentCount = 0;
+            if (node.plan != null) {
+                ArgumentPlan<?> plan = node.plan;
+                argumentCount = plan.size();
+                Object[] args = new Object[argumentCount];
+                for (int i = 0; i < argumentCount; i++) {
+                    Node argument = children[i] == null ? null : nodes.get(children[i]);
+                    if (argument != null && argument.onStack
+                            && (children[i] instanceof Collection || children[i] instanceof Map)) {
+                        // Its contents lead back here and cannot be complete before the constructor runs
+                        throw constructorCycle(source, plan.getNames().get(i));
+                    }
+                    args[i] = copyOf(children[i], plan.getType(i), "argument " + plan.getNames().get(i)
+                            + " of " + source.getClass().getName());
+                }
+                node.copy = plan.newInstance(args);
+                if (node.fixups != null) {
+                    node.fixups.forEach(fixup -> fixup.accept(node.copy));
+                    node.fixups = null;
+                }
+            }
+            Field[] fields = copiedFields(source.getClass());
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                Object target = node.copy;
+                if (!deferred(children[argumentCount + i], copy -> setField(field, target, copy))) {
+                    setField(field, target, copyOf(children[argumentCount + i], field.getType(),
+                            "field " + field.getDeclaringClass().getName() + "." + field.getName()));
+                }
+            }
+        }
+        node.children = null;
+    }
+
+    private static void setField(Field field, Object target, Object value) {
+        try {
+            field.set(target, value);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Failed to deep copy field: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Defer the assignment of a record or creator class that is still being constructed further up the walk,
+     * until its copy exists
+     */
+    private boolean deferred(Object value, Consumer<Object> assignment) {
+        Node node = value == null ? null : nodes.get(value);
+        if (node == null || node.copy != null) {
+            return false;
+        }
+        if (node.fixups == null) {
+            node.fixups = new ArrayList<>();
+        }
+        node.fixups.add(assignment);
+        return true;
+    }
+
+    /**
+     * The root of a strongly connected component is finished: every member is filled, so the collections
+     * and maps of the component can be populated. Members are popped latest first, inner containers first.
+     */
+    private void closeComponent(Node root) {
+        Node member;
+        do {
+            member = component.pop();
+            member.onStack = false;
+            if (member.staged != null) {
+                populate(member.copy, member.staged);
+                member.staged = null;
+            }
+        } while (member != root);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void populate(Object container, Object[] staged) {
+        if (container instanceof Map) {
+            Map<Object, Object> map = (Map<Object, Object>) container;
+            for (int i = 0; i < staged.length; i += 2) {
+                map.put(staged[i], staged[i + 1]);
+            }
+        } else {
+            Collection<Object> collection = (Collection<Object>) container;
+            for (Object element : staged) {
+                collection.add(element);
+            }
+        }
+    }
+
+    /**
+     * The copy of a referenced value, checked against the type of the slot it goes into
+     *
+     * @param where description of the slot for error messages, or null for untyped container contents
+     */
+    private Object copyOf(Object value, Class<?> slotType, String where) {
+        if (isLeaf(value)) {
+            return shareOrCopyLeaf(value);
+        }
+        Node node = nodes.get(value);
+        if (node.copy == null) {
+            // A record or creator class further up the walk, needed by a constructor before it exists
+            throw constructorCycle(value, null);
+        }
+        if (where != null && !Primitives.wrap(slotType).isInstance(node.copy)) {
+            throw new ReflectionException("Cannot deep copy " + where + ": " + value.getClass().getName()
+                    + " can only be rebuilt as " + node.copy.getClass().getName());
+        }
+        return node.copy;
+    }
+
+    private static ReflectionException constructorCycle(Object source, String argument) {
+        return new ReflectionException("Cannot deep copy constructor argument cycle through "
+                + source.getClass().getName() + (argument == null ? "" : "." + argument));
+    }
+
+    /**
+     * Values copied without a walk: shared values, primitive arrays copied in one step and JDK values
+     * copied through their public API
+     */
+    private boolean isLeaf(Object value) {
+        if (value == null) {
+            return true;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            return type.getComponentType().isPrimitive();
+        }
+        return isShared(type) || (!(value instanceof Collection) && !(value instanceof Map)
+                && type != AtomicReference.class && !isAccessible(type));
+    }
+
+    private Object shareOrCopyLeaf(Object value) {
+        if (value == null || isShared(value.getClass())) {
+            return value;
+        }
+        Node node = nodes.get(value);
+        if (node == null) {
+            Class<?> type = value.getClass();
+            Object copy;
+            if (type.isArray()) {
+                int length = Array.getLength(value);
+                copy = Array.newInstance(type.getComponentType(), length);
+                System.arraycopy(value, 0, copy, 0, length);
+            } else {
+                copy = JDK_VALUE_COPIERS.get(type).apply(value);
+                if (copy == value) {
+                    return value;
+                }
+            }
+            // Registered so that every reference to the value gets the same copy
+            node = new Node(value, -1);
+            node.onStack = false;
+            node.copy = copy;
+            nodes.put(value, node);
+        }
+        return node.copy;
+    }
+
+    private static UnaryOperator<Object> jdkValueCopier(Class<?> type) {
+        String packageName = type.getPackageName();
+        if (packageName.equals("java.time") || packageName.startsWith("java.time.")
+                || IMMUTABLE_JDK_TYPES.stream().anyMatch(immutable -> immutable.isAssignableFrom(type))) {
+            return UnaryOperator.identity();
+        }
+        if (type == Object.class) {
+            return value -> new Object();
+        }
+        if (type == StringBuilder.class) {
+            return value -> new StringBuilder((StringBuilder) value);
+        }
+        if (type == StringBuffer.class) {
+            return value -> new StringBuffer((StringBuffer) value);
+        }
+        if (type == AtomicInteger.class) {
+            return value -> new AtomicInteger(((AtomicInteger) value).get());
+        }
+        if (type == AtomicLong.class) {
+            return value -> new AtomicLong(((AtomicLong) value).get());
+        }
+        if (type == AtomicBoolean.class) {
+            return value -> new AtomicBoolean(((AtomicBoolean) value).get());
+        }
+        if (type == AtomicIntegerArray.class) {
+            return value -> {
+                AtomicIntegerArray array = (AtomicIntegerArray) value;
+                int[] values = new int[array.length()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = array.get(i);
+                }
+                return new AtomicIntegerArray(values);
+            };
+        }
+        if (type == AtomicLongArray.class) {
+            return value -> {
+                AtomicLongArray array = (AtomicLongArray) value;
+                long[] values = new long[array.length()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = array.get(i);
+                }
+                return new AtomicLongArray(values);
+            };
+        }
+        if (Cloneable.class.isAssignableFrom(type)) {
+            // Date, Calendar, BitSet, formats: the public clone() copies the state
+            try {
+                Method clone = type.getMethod("clone");
+                if (Modifier.isPublic(clone.getDeclaringClass().getModifiers())) {
+                    return value -> {
+                        try {
+                            return clone.invoke(value);
+                        } catch (ReflectiveOperationException e) {
+                            throw new ReflectionException("Failed to deep copy " + type.getName(), e);
+                        }
+                    };
+                }
+            } catch (NoSuchMethodException e) {
+                // Only the protected Object.clone(), reported below
+            }
+        }
+        return value -> {
+            throw new ReflectionException("Cannot deep copy " + type.getName()
+                    + ": its fields are not open to this library and it has no known copy");
+        };
+    }
+
+    /**
+     * Instance fields that are not set by a constructor, cached for the duration of the copy
+     */
+    private Field[] copiedFields(Class<?> type) {
+        Field[] fields = copiedFields.get(type);
+        if (fields == null) {
+            Optional<? extends ArgumentPlan<?>> plan = instanceFactory.getArgumentPlan(type);
+            fields = fieldAccessor.getAllFields(type).stream()
+                    .filter(field -> !ObjectCopier.isSetByConstructor(plan, field))
+                    .toArray(Field[]::new);
+            copiedFields.put(type, fields);
+        }
+        return fields;
+    }
+
+    /**
+     * Immutable values and classes whose instances cannot be recreated
+     */
+    private static boolean isShared(Class<?> type) {
+        return Primitives.isWrapper(type) || type == String.class || type == Class.class
+                || Enum.class.isAssignableFrom(type) || type.isHidden();
+    }
+
+    /**
+     * Whether the fields of the class can be made accessible: false for JDK internals such as
+     * {@code java.time} or {@code java.util.UUID} instances, which are shared instead
+     */
+    private static boolean isAccessible(Class<?> type) {
+        Module module = type.getModule();
+        return !module.isNamed() || module.isOpen(type.getPackageName(), DeepCopier.class.getModule());
+    }
+
+    /**
+     * Walk state of one source object
+     */
+    private static final class Node {
+        final Object source;
+        final int index;
+        int low;
+        boolean onStack = true;
+        Object copy;
+        Object[] children;
+        int next;
+        ArgumentPlan<?> plan;
+        Object[] staged;
+        List<Consumer<Object>> fixups;
+
+        Node(Object source, int index) {
+            this.source = source;
+            this.index = index;
+            this.low = index;
+        }
+    }
+}
@@ -17,13 +17,35 @@ package io.github.qwzhang01.reflection.copier;
 
 import io.github.qwzhang01.reflection.accessor.FieldAccessor;
 import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.factory.ArgumentPlan;
 import io.github.qwzhang01.reflection.factory.InstanceFactory;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 /**
  * Object Copier - Adopts Prototype Design Pattern
@@ -35,10 +57,17 @@ import java.util.Set;
  * <p>Copy strategies:</p>
  * <ul>
  *   <li>Shallow copy: Only copies the object itself, field references remain unchanged</li>
- *   <li>Deep copy: Recursively copies object and all its fields (simple implementation, does not handle circular references)</li>
- *   <li>Property copy: Copies fields with same name and type between two objects</li>
+ *   <li>Deep copy: Copies the whole object graph, preserving shared references and cycles</li>
+ *   <li>Property copy: Copies properties with same name and type between two objects, through getters and
+ *       setters where they exist, along a {@link CopyPlan} compiled once per pair of classes</li>
  * </ul>
  *
+ * <p>Copies of classes annotated with {@link io.github.qwzhang01.reflection.factory.SkipConstructor} are allocated
+ * without running their constructors, since every field is overwritten anyway.</p>
+ *
+ * <p>Records and classes with a {@link io.github.qwzhang01.reflection.factory.Creator} constructor are copied
+ * by passing the property values to that constructor, see {@link ArgumentPlan}.</p>
+ *
  * @author avinzhang
  * @since 1.0
  */
@@ -47,6 +76,27 @@ public class ObjectCopier {
     private final FieldAccessor fieldAccessor;
     private final InstanceFactory instanceFactory;
 
+    /**
+     * Copy plans per source class. Kept in a {@link ClassValue} so a copy skips the metadata lookup, and shared
+     * by all copiers so a short-lived copier does not compile its plans again.
+     */
+    private static final ClassValue<Map<CopyKey, CopyPlan>> copyPlans = new ClassValue<Map<CopyKey, CopyPlan>>() {
+        @Override
+        protected Map<CopyKey, CopyPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Factories creating an empty container of the same kind as a source collection or map, per container class
+     */
+    private static final ClassValue<UnaryOperator<Object>> containerFactories = new ClassValue<UnaryOperator<Object>>() {
+        @Override
+        protected UnaryOperator<Object> computeValue(Class<?> type) {
+            return containerFactory(type);
+        }
+    };
+
     public ObjectCopier() {
         this.fieldAccessor = new FieldAccessor();
         this.instanceFactory = new InstanceFactory();
@@ -62,10 +112,16 @@ public class ObjectCopier {
         }
 
         Class<T> clazz = (Class<T>) source.getClass();
-        T target = instanceFactory.createInstance(clazz);
+        Optional<ArgumentPlan<T>> plan = instanceFactory.getArgumentPlan(clazz);
+        T target = plan.isPresent()
+                ? createFromPlan(source, plan.get())
+                : instanceFactory.instantiate(clazz);
 
         List<Field> fields = fieldAccessor.getAllFields(clazz);
         for (Field field : fields) {
+            if (isSetByConstructor(plan, field)) {
+                continue;
+            }
             try {
                 Object value = field.get(source);
                 field.set(target, value);
@@ -78,113 +134,182 @@ public class ObjectCopier {
     }
 
     /**
-     * Deep copy (simple implementation, does not handle circular references)
+     * Deep copy. Shared references stay shared and cycles are preserved in the copy; the graph is walked with
+     * an explicit work stack, so its depth is not limited by the thread stack.
+     *
+     * @see DeepCopier
      */
     @SuppressWarnings("unchecked")
     public <T> T deepCopy(T source) {
         if (source == null) {
             return null;
         }
+        return (T) new DeepCopier(fieldAccessor, instanceFactory, containerFactories::get).copy(source);
+    }
 
-        Class<T> clazz = (Class<T>) source.getClass();
+    /**
+     * Create the copy of a record or {@link io.github.qwzhang01.reflection.factory.Creator} class through its
+     * constructor, passing the source property values
+     */
+    private <T> T createFromPlan(T source, ArgumentPlan<T> plan) {
+        Object[] args = new Object[plan.size()];
+        plan.readArguments(source, args);
+        return plan.newInstance(args);
+    }
 
-        // Return directly for primitive and wrapper types
-        if (isPrimitiveOrWrapper(clazz) || clazz == String.class) {
-            return source;
+    /**
+     * Sorted containers and priority queues keep the comparator of the source, through their comparator
+     * constructor. Containers without a usable constructor, such as unmodifiable views, become the closest
+     * general-purpose type; {@link DeepCopier} reports the copy when that type does not fit where it is assigned.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static UnaryOperator<Object> containerFactory(Class<?> type) {
+        boolean ordered = SortedMap.class.isAssignableFrom(type) || SortedSet.class.isAssignableFrom(type)
+                || PriorityQueue.class.isAssignableFrom(type) || PriorityBlockingQueue.class.isAssignableFrom(type);
+        if (ordered) {
+            try {
+                Constructor<?> constructor = type.getConstructor(Comparator.class);
+                return source -> newContainer(constructor, comparatorOf(source));
+            } catch (NoSuchMethodException e) {
+                // Try the capacity and comparator constructor of the blocking queue
+            }
+            try {
+                Constructor<?> constructor = type.getConstructor(int.class, Comparator.class);
+                return source -> newContainer(constructor, Math.max(1, ((Collection<?>) source).size()),
+                        comparatorOf(source));
+            } catch (NoSuchMethodException e) {
+                // No comparator constructor, fall back below
+            }
+        } else {
+            try {
+                Supplier<?> supplier = new InstanceFactory().getSupplier(type);
+                return source -> supplier.get();
+            } catch (RuntimeException e) {
+                // No accessible no-arg constructor, fall back below
+            }
+        }
+        if (SortedMap.class.isAssignableFrom(type)) {
+            return source -> new TreeMap<>(((SortedMap) source).comparator());
+        }
+        if (Map.class.isAssignableFrom(type)) {
+            return source -> new LinkedHashMap<>();
+        }
+        if (SortedSet.class.isAssignableFrom(type)) {
+            return source -> new TreeSet<>(((SortedSet) source).comparator());
         }
+        if (Set.class.isAssignableFrom(type)) {
+            return source -> new LinkedHashSet<>();
+        }
+        if (ordered) {
+            return source -> new PriorityQueue<>(comparatorOf(source));
+        }
+        if (Queue.class.isAssignableFrom(type) && !List.class.isAssignableFrom(type)) {
+            return source -> new ArrayDeque<>();
+        }
+        return source -> new ArrayList<>();
+    }
 
-        T target = instanceFactory.createInstance(clazz);
+    private static Comparator<?> comparatorOf(Object source) {
+        if (source instanceof SortedMap) {
+            return ((SortedMap<?, ?>) source).comparator();
+        }
+        if (source instanceof SortedSet) {
+            return ((SortedSet<?>) source).comparator();
+        }
+        if (source instanceof PriorityQueue) {
+            return ((PriorityQueue<?>) source).comparator();
+        }
+        return ((PriorityBlockingQueue<?>) source).comparator();
+    }
 
-        List<Field> fields = fieldAccessor.getAllFields(clazz);
-        for (Field field : fields) {
-            try {
-                Object value = field.get(source);
-                if (value != null) {
-                    if (isPrimitiveOrWrapper(value.getClass()) || value instanceof String) {
-                        field.set(target, value);
-                    } else {
-                        // Recursively deep copy
-                        Object copiedValue = deepCopy(value);
-                        field.set(target, copiedValue);
-                    }
-                }
-            } catch (IllegalAccessException e) {
-                throw new ReflectionException("Failed to deep copy field: " + field.getName(), e);
-            }
+    private static Object newContainer(Constructor<?> constructor, Object... args) {
+        try {
+            return constructor.newInstance(args);
+        } catch (ReflectiveOperationException e) {
+            throw new ReflectionException("Failed to create container: "
+                    + constructor.getDeclaringClass().getName(), e);
         }
+    }
 
-        return target;
+    /**
+     * Static fields belong to no instance; fields the constructor of an argument plan received are already set
+     */
+    static boolean isSetByConstructor(Optional<? extends ArgumentPlan<?>> plan, Field field) {
+        return Modifier.isStatic(field.getModifiers())
+                || (plan.isPresent() && plan.get().indexOf(field.getName()) >= 0);
     }
 
     /**
-     * Copy properties
+     * Copy properties, through the cached copy plan for the two classes
      */
     public void copyProperties(Object source, Object target, String... ignoreFields) {
-        Set<String> ignoreSet = new HashSet<>(Arrays.asList(ignoreFields));
-
-        List<Field> sourceFields = fieldAccessor.getAllFields(source.getClass());
-        List<Field> targetFields = fieldAccessor.getAllFields(target.getClass());
-
-        for (Field sourceField : sourceFields) {
-            if (ignoreSet.contains(sourceField.getName())) {
-                continue;
-            }
-
-            for (Field targetField : targetFields) {
-                if (sourceField.getName().equals(targetField.getName()) &&
-                        sourceField.getType().equals(targetField.getType())) {
-                    try {
-                        Object value = sourceField.get(source);
-                        targetField.set(target, value);
-                    } catch (IllegalAccessException e) {
-                        // Ignore inaccessible fields
-                    }
-                    break;
-                }
-            }
-        }
+        compileCopyPlan(source.getClass(), target.getClass(), CopyStrategy.EXCLUDE, ignoreFields)
+                .copy(source, target);
     }
 
     /**
-     * Selective copy
+     * Selective copy, through the cached copy plan for the two classes and the selection
      */
     public void copyProperties(Object source, Object target,
                                CopyStrategy strategy, String... fields) {
-        Set<String> fieldSet = new HashSet<>(Arrays.asList(fields));
+        compileCopyPlan(source.getClass(), target.getClass(), strategy, fields).copy(source, target);
+    }
+
+    /**
+     * Compile the copy of every selected property that the target class has with the same name and type,
+     * reading and writing through getters and setters where they exist. Cached per (source class,
+     * target class, strategy, names); names given in a different order compile a separate plan.
+     *
+     * @see CopyPlan
+     */
+    public CopyPlan compileCopyPlan(Class<?> sourceClass, Class<?> targetClass,
+                                    CopyStrategy strategy, String... fields) {
+        Map<CopyKey, CopyPlan> plans = copyPlans.get(sourceClass);
+        CopyPlan plan = plans.get(new CopyKey(targetClass, strategy, fields));
+        if (plan == null) {
+            // The key keeps its own copy of the names, the caller may reuse the array
+            CopyKey key = new CopyKey(targetClass, strategy, fields.clone());
+            plan = plans.computeIfAbsent(key, k -> {
+                Set<String> fieldSet = new HashSet<>(Arrays.asList(k.fields));
+                Predicate<String> selected = strategy == CopyStrategy.INCLUDE
+                        ? fieldSet::contains
+                        : name -> !fieldSet.contains(name);
+                return CopyPlan.compile(sourceClass, targetClass, selected, fieldAccessor);
+            });
+        }
+        return plan;
+    }
 
-        List<Field> sourceFields = fieldAccessor.getAllFields(source.getClass());
-        List<Field> targetFields = fieldAccessor.getAllFields(target.getClass());
+    private static final class CopyKey {
+        final Class<?> targetClass;
+        final CopyStrategy strategy;
+        final String[] fields;
+        final int hash;
 
-        for (Field sourceField : sourceFields) {
-            boolean shouldCopy = strategy == CopyStrategy.INCLUDE
-                    ? fieldSet.contains(sourceField.getName())
-                    : !fieldSet.contains(sourceField.getName());
+        CopyKey(Class<?> targetClass, CopyStrategy strategy, String[] fields) {
+            this.targetClass = targetClass;
+            this.strategy = strategy;
+            this.fields = fields;
+            this.hash = (targetClass.hashCode() * 31 + strategy.hashCode()) * 31 + Arrays.hashCode(fields);
+        }
 
-            if (!shouldCopy) {
-                continue;
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
-
-            for (Field targetField : targetFields) {
-                if (sourceField.getName().equals(targetField.getName()) &&
-                        sourceField.getType().equals(targetField.getType())) {
-                    try {
-                        Object value = sourceField.get(source);
-                        targetField.set(target, value);
-                    } catch (IllegalAccessException e) {
-                        // Ignore inaccessible fields
-                    }
-                    break;
-                }
+            if (!(o instanceof CopyKey)) {
+                return false;
             }
+            CopyKey other = (CopyKey) o;
+            return targetClass == other.targetClass && strategy == other.strategy
+                    && Arrays.equals(fields, other.fields);
         }
-    }
 
-    private boolean isPrimitiveOrWrapper(Class<?> clazz) {
-        return clazz.isPrimitive() ||
-                clazz == Boolean.class || clazz == Byte.class ||
-                clazz == Character.class || clazz == Short.class ||
-                clazz == Integer.class || clazz == Long.class ||
-                clazz == Float.class || clazz == Double.class;
+        @Override
+        public int hashCode() {
+            return hash;
+        }
     }
 
     /**
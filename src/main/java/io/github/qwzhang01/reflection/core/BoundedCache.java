@@ -0,0 +1,425 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Bounded Cache - Size-limited concurrent map with frequency-aware eviction
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, so reads are lock-free. Every read also
+ * records the key in a small count-min frequency sketch (TinyLFU). Reads do not write the sketch
+ * themselves: they drop the key into a striped, lossy read buffer, which is drained into the
+ * sketch under the eviction lock when a stripe fills up or an insert evicts. Under heavy
+ * contention some reads are not counted, which the estimate tolerates. When an insert pushes the
+ * cache over its maximum size, the oldest entry in admission order is weighed against the
+ * newcomer: the one that has been requested less often is evicted, and a more popular victim
+ * gets a second chance at the tail of the queue. One-off keys therefore cannot flush out hot ones.
+ * </p>
+ *
+ * <p>The maximum size is read from a supplier on every insert, so changes to
+ * {@link ReflectionConfig#setMaxCacheSize(int)} take effect immediately. A non-positive maximum
+ * disables the bound.</p>
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BoundedCache<K, V> extends AbstractMap<K, V> {
+
+    /**
+     * About two read buffer stripes per processor, a power of two between 2 and 64
+     */
+    private static final int READ_STRIPES =
+            Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+    private static final int READ_BUFFER_SIZE = 16;
+    /**
+     * Read counters sit sixteen ints apart, one cache line per stripe
+     */
+    private static final int COUNTER_SPACING = 16;
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ConcurrentLinkedQueue<Node<K, V>> admissionQueue;
+    private final AtomicInteger queuedCount;
+    private final FrequencySketch sketch;
+    private final IntSupplier maximumSize;
+    private final ReentrantLock evictionLock;
+    private final LongAdder evictionCount;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final AtomicReferenceArray<Object> readBuffer;
+    private final AtomicIntegerArray readCounters;
+
+    public BoundedCache(IntSupplier maximumSize) {
+        this.data = new ConcurrentHashMap<>(256);
+        this.admissionQueue = new ConcurrentLinkedQueue<>();
+        this.queuedCount = new AtomicInteger();
+        this.sketch = new FrequencySketch();
+        this.maximumSize = maximumSize;
+        this.evictionLock = new ReentrantLock();
+        this.evictionCount = new LongAdder();
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.readBuffer = new AtomicReferenceArray<>(READ_STRIPES * READ_BUFFER_SIZE);
+        this.readCounters = new AtomicIntegerArray(READ_STRIPES * COUNTER_SPACING);
+        this.sketch.ensureCapacity(maximumSize.getAsInt());
+    }
+
+    @Override
+    public V get(Object key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        recordRead(key);
+        return node.value;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return data.containsKey(key);
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        Node<K, V> node = data.get(key);
+        if (node != null) {
+            hitCount.increment();
+            recordRead(key);
+            return node.value;
+        }
+
+        missCount.increment();
+        recordRead(key);
+        Node<K, V> created = new Node<>(key, null);
+        node = data.computeIfAbsent(key, k -> {
+            V value = mappingFunction.apply(k);
+            if (value == null) {
+                return null;
+            }
+            created.value = value;
+            return created;
+        });
+        if (node == null) {
+            return null;
+        }
+        if (node == created) {
+            afterInsert(created);
+        }
+        return node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        Node<K, V> node = new Node<>(key, value);
+        Node<K, V> previous = data.put(key, node);
+        afterInsert(node);
+        return previous == null ? null : previous.value;
+    }
+
+    @Override
+    public V remove(Object key) {
+        Node<K, V> node = data.remove(key);
+        if (node == null) {
+            return null;
+        }
+        cleanUpIfNeeded();
+        return node.value;
+    }
+
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public void clear() {
+        evictionLock.lock();
+        try {
+            data.clear();
+            admissionQueue.clear();
+            queuedCount.set(0);
+            for (int i = 0; i < readBuffer.length(); i++) {
+                readBuffer.set(i, null);
+            }
+            sketch.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                Iterator<Node<K, V>> nodes = data.values().iterator();
+                return new Iterator<Entry<K, V>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return nodes.hasNext();
+                    }
+
+                    @Override
+                    public Entry<K, V> next() {
+                        Node<K, V> node = nodes.next();
+                        return new SimpleImmutableEntry<>(node.key, node.value);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return data.size();
+            }
+        };
+    }
+
+    /**
+     * Number of entries evicted since creation
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * Number of lookups that found a cached value
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * Number of lookups that found no cached value
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * Reset the hit, miss and eviction counters; the entries and their frequencies are kept
+     */
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    /**
+     * Record a read in the stripe of the current thread. A full stripe overwrites its oldest
+     * undrained key, and the read that fills it drains all stripes if the lock is free.
+     */
+    private void recordRead(Object key) {
+        int stripe = FrequencySketch.spread(System.identityHashCode(Thread.currentThread())) & (READ_STRIPES - 1);
+        int count = readCounters.getAndIncrement(stripe * COUNTER_SPACING);
+        int slot = count & (READ_BUFFER_SIZE - 1);
+        readBuffer.lazySet(stripe * READ_BUFFER_SIZE + slot, key);
+        if (slot == READ_BUFFER_SIZE - 1 && evictionLock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Move buffered reads into the sketch; called with the eviction lock held
+     */
+    private void drainReads() {
+        for (int i = 0; i < readBuffer.length(); i++) {
+            Object key = readBuffer.getAndSet(i, null);
+            if (key != null) {
+                sketch.increment(key);
+            }
+        }
+    }
+
+    private void afterInsert(Node<K, V> node) {
+        admissionQueue.offer(node);
+        queuedCount.incrementAndGet();
+        int maximum = maximumSize.getAsInt();
+        if (maximum > 0 && data.size() > maximum) {
+            evict(node, maximum);
+        } else {
+            cleanUpIfNeeded();
+        }
+    }
+
+    /**
+     * Removed and replaced entries leave their node in the admission queue, and eviction only drains it when
+     * the cache is full. Once stale nodes outnumber the live entries, sweep them out so the queue stays
+     * proportional to the cache and does not keep removed keys and values reachable.
+     */
+    private void cleanUpIfNeeded() {
+        if (queuedCount.get() <= 2 * data.size() + 16 || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Iterator<Node<K, V>> nodes = admissionQueue.iterator();
+            while (nodes.hasNext()) {
+                if (!isLive(nodes.next())) {
+                    nodes.remove();
+                    queuedCount.decrementAndGet();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Evict until the cache fits again. Runs under a lock so only one writer drains the queue,
+     * readers are never blocked.
+     */
+    private void evict(Node<K, V> candidate, int maximum) {
+        evictionLock.lock();
+        try {
+            sketch.ensureCapacity(maximum);
+            drainReads();
+            // Each live entry gets at most one second chance per eviction round
+            int secondChances = data.size();
+            while (data.size() > maximum) {
+                Node<K, V> victim = admissionQueue.poll();
+                if (victim == null) {
+                    break;
+                }
+                queuedCount.decrementAndGet();
+                if (data.get(victim.key) != victim) {
+                    // Stale queue entry: removed or replaced in the meantime
+                    continue;
+                }
+                if (victim != candidate && isLive(candidate) && secondChances-- > 0
+                        && sketch.frequency(victim.key) > sketch.frequency(candidate.key)) {
+                    // The newcomer is less popular than the oldest entry: reject the newcomer
+                    admissionQueue.offer(victim);
+                    queuedCount.incrementAndGet();
+                    victim = candidate;
+                }
+                if (data.remove(victim.key, victim)) {
+                    evictionCount.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isLive(Node<K, V> node) {
+        return data.get(node.key) == node;
+    }
+
+    private static final class Node<K, V> {
+        final K key;
+        volatile V value;
+
+        Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Count-min sketch with four saturating counters per key and periodic halving,
+     * so the estimate favours recent popularity. Only used under the eviction lock, so the
+     * counters and the aging step need no further synchronization.
+     */
+    static final class FrequencySketch {
+        private static final int[] SEEDS = {0x97cb3127, 0xb1a6c5e3, 0x3c6ef372, 0x5be0cd19};
+        private static final int MAX_COUNT = 15;
+
+        private int[] table = new int[256];
+        private int additions;
+        private int sampleSize = 640;
+
+        void ensureCapacity(int maximumSize) {
+            // About sixteen counters per entry keeps collisions low between two resets
+            int desired = Integer.highestOneBit(Math.max(16, Math.min(maximumSize, 1 << 22)) * 16 - 1) << 1;
+            if (table.length < desired) {
+                table = new int[desired];
+                sampleSize = 10 * maximumSize;
+                additions = 0;
+            }
+        }
+
+        void increment(Object key) {
+            int[] counters = table;
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int seed : SEEDS) {
+                int index = indexOf(hash, seed, counters.length);
+                int count = counters[index];
+                // Saturated counters are only read, which keeps hot keys off the write path
+                if (count < MAX_COUNT) {
+                    counters[index] = count + 1;
+                    added = true;
+                }
+            }
+            if (added && ++additions >= sampleSize) {
+                reset(counters);
+            }
+        }
+
+        int frequency(Object key) {
+            int[] counters = table;
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int seed : SEEDS) {
+                frequency = Math.min(frequency, counters[indexOf(hash, seed, counters.length)]);
+            }
+            return frequency;
+        }
+
+        void clear() {
+            table = new int[table.length];
+            additions = 0;
+        }
+
+        private void reset(int[] counters) {
+            additions = 0;
+            for (int i = 0; i < counters.length; i++) {
+                counters[i] >>>= 1;
+            }
+        }
+
+        private static int indexOf(int hash, int seed, int length) {
+            int h = hash * seed;
+            h ^= h >>> 17;
+            return h & (length - 1);
+        }
+
+        static int spread(int hash) {
+            hash ^= hash >>> 16;
+            hash *= 0x45d9f3b;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
@@ -15,12 +15,29 @@
  */
 package io.github.qwzhang01.reflection.core;
 
+import io.github.qwzhang01.reflection.invoke.BeanAccess;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class Metadata - Adopts Flyweight Design Pattern
@@ -32,10 +49,22 @@ import java.util.List;
  * <p>Cached metadata includes:</p>
  * <ul>
  *   <li>All fields (including inherited fields)</li>
- *   <li>All methods (including inherited methods)</li>
+ *   <li>Resolved methods: the most specific override per signature, including inherited and interface
+ *       default methods, without bridge and synthetic methods</li>
  *   <li>All constructors</li>
+ *   <li>Getter and setter methods</li>
+ *   <li>Annotation index: annotation type to the fields and methods carrying it, with cached instances</li>
+ *   <li>Compiled {@link FieldHandle}s, created on first request per field</li>
+ *   <li>Bean properties: one {@link BeanProperty} per field, accessed through generated getter/setter lambdas</li>
+ *   <li>On request, a {@link BeanAccess} compiled into a hidden class for index-based access to all properties</li>
+ *   <li>Type index: fields matching a type exactly, by assignability or up to boxing, cached per query type</li>
+ *   <li>Name and signature indexes over the members above, so single-member lookups are O(1)</li>
+ *   <li>Overload resolutions per method name and argument classes</li>
+ *   <li>Caches for other values derived from the class, such as compiled property paths</li>
  * </ul>
  *
+ * <p>Inherited members are only collected when {@code includeInheritedMembers} is set (the default).</p>
+ *
  * <p>Note: Collected fields and methods are automatically set to accessible (setAccessible(true))</p>
  *
  * @author avinzhang
@@ -43,13 +72,42 @@ import java.util.List;
  */
 public class ClassMetadata {
 
+    private static final Class<?>[] NO_PARAMS = new Class<?>[0];
+
     private final Class<?> targetClass;
-    private List<Field> fields;
-    private List<Method> methods;
-    private List<Constructor<?>> constructors;
+    private final boolean includeInheritedMembers;
+    private final ReflectionMetrics metrics;
+    private volatile List<Field> fields;
+    private volatile List<Method> methods;
+    private volatile List<Constructor<?>> constructors;
+    private volatile List<Method> getters;
+    private volatile List<Method> setters;
+    private volatile AnnotationIndex annotationIndex;
+    private volatile List<BeanProperty> properties;
+    private Map<String, BeanProperty> propertyIndex;
+    private volatile BeanAccess beanAccess;
+
+    private Map<String, Field> fieldIndex;
+    private Map<String, List<Method>> methodNameIndex;
+    private Map<SignatureKey, Method> methodSignatureIndex;
+    private Map<SignatureKey, Constructor<?>> constructorIndex;
+    private final Map<TypeMatch, Map<Class<?>, List<Field>>> typeIndex = newTypeIndex();
+    private final Map<String, FieldHandle> fieldHandles = new ConcurrentHashMap<>();
+    private final Map<SignatureKey, OverloadResolver.Resolution<Method>> resolvedCalls = new ConcurrentHashMap<>();
+    private final Map<Object, Map<?, ?>> derivedCaches = new ConcurrentHashMap<>();
 
     public ClassMetadata(Class<?> targetClass) {
+        this(targetClass, true, null);
+    }
+
+    /**
+     * @param includeInheritedMembers whether members of superclasses and interfaces are collected
+     * @param metrics                 receives the time spent collecting each member list, may be null
+     */
+    public ClassMetadata(Class<?> targetClass, boolean includeInheritedMembers, ReflectionMetrics metrics) {
         this.targetClass = targetClass;
+        this.includeInheritedMembers = includeInheritedMembers;
+        this.metrics = metrics;
     }
 
     /**
@@ -59,7 +117,11 @@ public class ClassMetadata {
         if (fields == null) {
             synchronized (this) {
                 if (fields == null) {
-                    fields = collectFields();
+                    long start = System.nanoTime();
+                    List<Field> collected = collectFields();
+                    fieldIndex = indexFields(collected);
+                    recordLoad(start);
+                    fields = collected;
                 }
             }
         }
@@ -67,19 +129,227 @@ public class ClassMetadata {
     }
 
     /**
-     * Lazy load method list
+     * Lazy load resolved method list
+     * <p>
+     * Contains one method per signature: an override in a subclass hides the superclass version,
+     * and interface default methods are only listed when no class in the hierarchy implements them.
+     * </p>
      */
     public List<Method> getMethods() {
         if (methods == null) {
             synchronized (this) {
                 if (methods == null) {
-                    methods = collectMethods();
+                    long start = System.nanoTime();
+                    List<Method> collected = collectMethods();
+                    indexMethods(collected);
+                    recordLoad(start);
+                    methods = collected;
                 }
             }
         }
         return methods;
     }
 
+    /**
+     * Lazy load getter list: non-static get/is methods without parameters and with a return value
+     */
+    public List<Method> getGetters() {
+        if (getters == null) {
+            synchronized (this) {
+                if (getters == null) {
+                    List<Method> result = new ArrayList<>();
+                    for (Method method : getMethods()) {
+                        if (isGetter(method)) {
+                            result.add(method);
+                        }
+                    }
+                    getters = List.copyOf(result);
+                }
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * Lazy load setter list: non-static set methods with one parameter and no return value
+     */
+    public List<Method> getSetters() {
+        if (setters == null) {
+            synchronized (this) {
+                if (setters == null) {
+                    List<Method> result = new ArrayList<>();
+                    for (Method method : getMethods()) {
+                        if (isSetter(method)) {
+                            result.add(method);
+                        }
+                    }
+                    setters = List.copyOf(result);
+                }
+            }
+        }
+        return setters;
+    }
+
+    /**
+     * Get the compiled handle of a field, created once and cached
+     *
+     * @return the handle, or null if the field does not exist
+     */
+    public FieldHandle getFieldHandle(String fieldName) {
+        FieldHandle handle = fieldHandles.get(fieldName);
+        if (handle == null) {
+            Field field = findField(fieldName);
+            if (field == null) {
+                return null;
+            }
+            handle = fieldHandles.computeIfAbsent(fieldName, name -> FieldHandle.of(field));
+        }
+        return handle;
+    }
+
+    /**
+     * Lazy load bean properties: one per non-static field, a field hidden by a subclass field of the same name
+     * is skipped. Getters and setters are compiled to lambdas once per class.
+     */
+    public List<BeanProperty> getProperties() {
+        if (properties == null) {
+            synchronized (this) {
+                if (properties == null) {
+                    Map<String, BeanProperty> index = new LinkedHashMap<>();
+                    for (Field field : getFields()) {
+                        if (!Modifier.isStatic(field.getModifiers()) && !index.containsKey(field.getName())) {
+                            Method getter = findGetter(field);
+                            Method setter = findSetter(field);
+                            // Direct access shares the cached handle of the field
+                            FieldHandle handle = getter == null || setter == null
+                                    ? getFieldHandle(field.getName()) : null;
+                            index.put(field.getName(), BeanProperty.of(field, getter, setter, handle));
+                        }
+                    }
+                    propertyIndex = index;
+                    properties = List.copyOf(index.values());
+                }
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Find bean property by name
+     *
+     * @return the property, or null if the class has no such non-static field
+     */
+    public BeanProperty findProperty(String name) {
+        getProperties();
+        return propertyIndex.get(name);
+    }
+
+    /**
+     * Get index-based access to all bean properties, generated as a hidden class on first request.
+     * Falls back to the compiled {@link BeanProperty} accessors when the class cannot be generated.
+     */
+    public BeanAccess getBeanAccess() {
+        if (beanAccess == null) {
+            synchronized (this) {
+                if (beanAccess == null) {
+                    beanAccess = BeanAccess.of(targetClass, getProperties());
+                }
+            }
+        }
+        return beanAccess;
+    }
+
+    private Method findGetter(Field field) {
+        String suffix = capitalize(field.getName());
+        Method getter = null;
+        if (field.getType() == boolean.class || field.getType() == Boolean.class) {
+            getter = findMethod("is" + suffix);
+        }
+        if (getter == null || getter.getReturnType() != field.getType()) {
+            getter = findMethod("get" + suffix);
+        }
+        return getter != null && isGetter(getter) && getter.getReturnType() == field.getType() ? getter : null;
+    }
+
+    private Method findSetter(Field field) {
+        Method setter = findMethod("set" + capitalize(field.getName()), field.getType());
+        return setter != null && isSetter(setter) ? setter : null;
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * Get a cache for values derived from this class, e.g. compiled property paths. The cache lives
+     * and is dropped together with this metadata, so clearing or evicting the metadata clears it too.
+     *
+     * @param namespace identifies the kind of derived value, typically the class that computes it
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getDerivedCache(Object namespace) {
+        return (Map<K, V>) derivedCaches.computeIfAbsent(namespace, key -> new ConcurrentHashMap<>());
+    }
+
+    /**
+     * Get fields carrying the annotation, as a shared immutable list
+     */
+    public List<Field> getFieldsWithAnnotation(Class<? extends Annotation> annotationType) {
+        return annotationIndex().fields.getOrDefault(annotationType, Collections.emptyList());
+    }
+
+    /**
+     * Get methods carrying the annotation, as a shared immutable list
+     */
+    public List<Method> getMethodsWithAnnotation(Class<? extends Annotation> annotationType) {
+        return annotationIndex().methods.getOrDefault(annotationType, Collections.emptyList());
+    }
+
+    /**
+     * Get the cached annotation of a field or method of this class
+     *
+     * @param member a field from {@link #getFields()} or a method from {@link #getMethods()}
+     * @return the annotation, or null if the member does not carry it
+     */
+    public <A extends Annotation> A getAnnotation(AccessibleObject member, Class<A> annotationType) {
+        Map<Class<? extends Annotation>, Annotation> annotations = annotationIndex().annotations.get(member);
+        return annotations == null ? null : annotationType.cast(annotations.get(annotationType));
+    }
+
+    /**
+     * Get fields whose type matches the query type, as a shared immutable list cached per (type, match)
+     */
+    public List<Field> getFieldsByType(Class<?> type, TypeMatch match) {
+        return typeIndex.get(match).computeIfAbsent(type, t -> {
+            List<Field> result = new ArrayList<>();
+            for (Field field : getFields()) {
+                if (match.matches(t, field.getType())) {
+                    result.add(field);
+                }
+            }
+            return List.copyOf(result);
+        });
+    }
+
+    private static Map<TypeMatch, Map<Class<?>, List<Field>>> newTypeIndex() {
+        Map<TypeMatch, Map<Class<?>, List<Field>>> index = new EnumMap<>(TypeMatch.class);
+        for (TypeMatch match : TypeMatch.values()) {
+            index.put(match, new ConcurrentHashMap<>());
+        }
+        return index;
+    }
+
+    private AnnotationIndex annotationIndex() {
+        if (annotationIndex == null) {
+            synchronized (this) {
+                if (annotationIndex == null) {
+                    annotationIndex = new AnnotationIndex(getFields(), getMethods());
+                }
+            }
+        }
+        return annotationIndex;
+    }
+
     /**
      * Lazy load constructor list
      */
@@ -87,13 +357,129 @@ public class ClassMetadata {
         if (constructors == null) {
             synchronized (this) {
                 if (constructors == null) {
-                    constructors = collectConstructors();
+                    long start = System.nanoTime();
+                    List<Constructor<?>> collected = collectConstructors();
+                    constructorIndex = indexConstructors(collected);
+                    recordLoad(start);
+                    constructors = collected;
                 }
             }
         }
         return constructors;
     }
 
+    /**
+     * Eagerly collect all members and build every index, so later lookups never pay the first-access cost
+     *
+     * @return this metadata
+     */
+    public ClassMetadata preload() {
+        getFields();
+        getMethods();
+        getConstructors();
+        getGetters();
+        getSetters();
+        annotationIndex();
+        getProperties();
+        return this;
+    }
+
+    /**
+     * Find field by name
+     * <p>
+     * When a subclass hides a superclass field with the same name, the subclass field is returned.
+     * </p>
+     *
+     * @return the field, or null if the class has no such field
+     */
+    public Field findField(String name) {
+        getFields();
+        return fieldIndex.get(name);
+    }
+
+    /**
+     * Find method by name and exact parameter types
+     *
+     * @return the method, or null if the class has no such method
+     */
+    public Method findMethod(String name, Class<?>... paramTypes) {
+        getMethods();
+        return methodSignatureIndex.get(new SignatureKey(name, paramTypes));
+    }
+
+    /**
+     * Get all methods (overloads included) with the given name
+     */
+    public List<Method> getMethodsByName(String name) {
+        getMethods();
+        return methodNameIndex.getOrDefault(name, Collections.emptyList());
+    }
+
+    /**
+     * Resolve the overload Java would call with arguments of the given runtime classes, see
+     * {@link OverloadResolver}. The result is cached per (name, argument classes).
+     *
+     * @param argTypes runtime classes of the arguments, null for a null argument
+     * @return the resolution, or null if no method is applicable
+     * @throws io.github.qwzhang01.reflection.exception.ReflectionException if the call is ambiguous
+     */
+    public OverloadResolver.Resolution<Method> resolveMethod(String name, Class<?>... argTypes) {
+        SignatureKey key = new SignatureKey(name, argTypes);
+        OverloadResolver.Resolution<Method> resolution = resolvedCalls.get(key);
+        if (resolution == null) {
+            resolution = OverloadResolver.resolve(getMethodsByName(name), key.paramTypes);
+            if (resolution != null) {
+                resolvedCalls.putIfAbsent(key, resolution);
+            }
+        }
+        return resolution;
+    }
+
+    /**
+     * Find constructor by exact parameter types
+     *
+     * @return the constructor, or null if the class has no such constructor
+     */
+    public Constructor<?> findConstructor(Class<?>... paramTypes) {
+        getConstructors();
+        return constructorIndex.get(new SignatureKey("<init>", paramTypes));
+    }
+
+    private void recordLoad(long start) {
+        if (metrics != null) {
+            metrics.recordLoad(System.nanoTime() - start);
+        }
+    }
+
+    private static Map<String, Field> indexFields(List<Field> fields) {
+        Map<String, Field> index = new HashMap<>(fields.size() * 2);
+        for (Field field : fields) {
+            // Fields are collected subclass first, so the first one wins
+            index.putIfAbsent(field.getName(), field);
+        }
+        return index;
+    }
+
+    private void indexMethods(List<Method> methods) {
+        Map<String, List<Method>> byName = new HashMap<>();
+        Map<SignatureKey, Method> bySignature = new HashMap<>(methods.size() * 2);
+        for (Method method : methods) {
+            byName.computeIfAbsent(method.getName(), k -> new ArrayList<>()).add(method);
+            bySignature.putIfAbsent(new SignatureKey(method.getName(), method.getParameterTypes()), method);
+        }
+        byName.replaceAll((name, list) -> Collections.unmodifiableList(list));
+        methodNameIndex = byName;
+        methodSignatureIndex = bySignature;
+    }
+
+    private static Map<SignatureKey, Constructor<?>> indexConstructors(List<Constructor<?>> constructors) {
+        Map<SignatureKey, Constructor<?>> index = new HashMap<>();
+        for (Constructor<?> constructor : constructors) {
+            index.put(new SignatureKey("<init>", constructor.getParameterTypes()), constructor);
+        }
+        return index;
+    }
+
     private List<Field> collectFields() {
         List<Field> result = new ArrayList<>();
         Class<?> current = targetClass;
@@ -103,25 +489,123 @@ public class ClassMetadata {
                 field.setAccessible(true);
                 result.add(field);
             }
-            current = current.getSuperclass();
+            current = includeInheritedMembers ? current.getSuperclass() : null;
         }
 
         return Collections.unmodifiableList(result);
     }
 
     private List<Method> collectMethods() {
-        List<Method> result = new ArrayList<>();
+        // Classes are visited subclass first, so the first method seen for a signature is the most specific one
+        Map<SignatureKey, Method> resolved = new LinkedHashMap<>();
+        // A bridge stands for an override with an erased signature: it is not listed itself, but it hides the
+        // superclass method it overrides, e.g. Base<T>.setValue(Object) under Sub.setValue(String). Visibility
+        // bridges for methods of a package-private superclass override nothing and hide nothing.
+        Set<SignatureKey> bridged = new HashSet<>();
         Class<?> current = targetClass;
 
         while (current != null && current != Object.class) {
-            for (Method method : current.getDeclaredMethods()) {
-                method.setAccessible(true);
-                result.add(method);
+            List<SignatureKey> bridges = new ArrayList<>();
+            Method[] declared = current.getDeclaredMethods();
+            for (Method method : declared) {
+                SignatureKey key = new SignatureKey(method.getName(), method.getParameterTypes());
+                if (method.isBridge()) {
+                    // Covariant return bridges share the signature of their own class's method, so they only
+                    // take effect for the superclasses
+                    if (isErasureBridge(method, declared)) {
+                        bridges.add(key);
+                    }
+                    continue;
+                }
+                if (method.isSynthetic() || bridged.contains(key)) {
+                    continue;
+                }
+                if (resolved.putIfAbsent(key, method) == null) {
+                    method.setAccessible(true);
+                }
             }
-            current = current.getSuperclass();
+            bridged.addAll(bridges);
+            current = includeInheritedMembers ? current.getSuperclass() : null;
         }
 
-        return Collections.unmodifiableList(result);
+        if (includeInheritedMembers) {
+            collectInterfaceMethods(resolved, bridged);
+        }
+
+        return Collections.unmodifiableList(Arrays.asList(resolved.values().toArray(new Method[0])));
+    }
+
+    /**
+     * Add methods inherited from interfaces, closest interfaces first. For a class only default methods count,
+     * abstract ones are implemented somewhere in the class hierarchy. For an interface every inherited
+     * non-static method is a member.
+     */
+    private void collectInterfaceMethods(Map<SignatureKey, Method> resolved, Set<SignatureKey> bridged) {
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = targetClass; current != null; current = current.getSuperclass()) {
+            pending.addAll(Arrays.asList(current.getInterfaces()));
+        }
+
+        while (!pending.isEmpty()) {
+            Class<?> iface = pending.poll();
+            if (!visited.add(iface)) {
+                continue;
+            }
+            List<SignatureKey> bridges = new ArrayList<>();
+            Method[] declared = iface.getDeclaredMethods();
+            for (Method method : declared) {
+                boolean inherited = targetClass.isInterface()
+                        ? !Modifier.isStatic(method.getModifiers())
+                        : method.isDefault();
+                SignatureKey key = new SignatureKey(method.getName(), method.getParameterTypes());
+                if (method.isBridge()) {
+                    if (isErasureBridge(method, declared)) {
+                        bridges.add(key);
+                    }
+                    continue;
+                }
+                if (!inherited || method.isSynthetic()) {
+                    continue;
+                }
+                if (!resolved.containsKey(key) && !bridged.contains(key) && method.trySetAccessible()) {
+                    resolved.put(key, method);
+                }
+            }
+            bridged.addAll(bridges);
+            pending.addAll(Arrays.asList(iface.getInterfaces()));
+        }
+    }
+
+    /**
+     * Whether the bridge forwards to a method of its own class with other parameter or return types, as for
+     * generic and covariant overrides, rather than re-publishing an inherited method with the same signature
+     */
+    private static boolean isErasureBridge(Method bridge, Method[] declared) {
+        for (Method method : declared) {
+            if (!method.isBridge() && method.getName().equals(bridge.getName())
+                    && method.getParameterCount() == bridge.getParameterCount()
+                    && (!Arrays.equals(method.getParameterTypes(), bridge.getParameterTypes())
+                    || method.getReturnType() != bridge.getReturnType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isGetter(Method method) {
+        String name = method.getName();
+        return (name.startsWith("get") || name.startsWith("is"))
+                && method.getParameterCount() == 0
+                && method.getReturnType() != void.class
+                && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+                && method.getParameterCount() == 1
+                && method.getReturnType() == void.class
+                && !Modifier.isStatic(method.getModifiers());
     }
 
     private List<Constructor<?>> collectConstructors() {
@@ -136,4 +620,106 @@ public class ClassMetadata {
     public Class<?> getTargetClass() {
         return targetClass;
     }
+
+    /**
+     * How a field type is compared with the query type of {@link #getFieldsByType(Class, TypeMatch)}
+     */
+    public enum TypeMatch {
+        /**
+         * The field type is the query type
+         */
+        EXACT {
+            @Override
+            public boolean matches(Class<?> queryType, Class<?> fieldType) {
+                return queryType == fieldType;
+            }
+        },
+        /**
+         * The field type is the query type or a subtype of it. Primitive fields only match their own type.
+         */
+        ASSIGNABLE {
+            @Override
+            public boolean matches(Class<?> queryType, Class<?> fieldType) {
+                return queryType.isAssignableFrom(fieldType);
+            }
+        },
+        /**
+         * The field type is the query type up to boxing, e.g. {@code long} and {@code Long} match each other
+         */
+        BOXED {
+            @Override
+            public boolean matches(Class<?> queryType, Class<?> fieldType) {
+                return Primitives.wrap(queryType) == Primitives.wrap(fieldType);
+            }
+        };
+
+        public abstract boolean matches(Class<?> queryType, Class<?> fieldType);
+    }
+
+    /**
+     * Annotations of all fields and methods, read once through java.lang.reflect
+     */
+    private static final class AnnotationIndex {
+        final Map<Class<? extends Annotation>, List<Field>> fields;
+        final Map<Class<? extends Annotation>, List<Method>> methods;
+        final Map<AccessibleObject, Map<Class<? extends Annotation>, Annotation>> annotations;
+
+        AnnotationIndex(List<Field> fieldList, List<Method> methodList) {
+            this.annotations = new HashMap<>();
+            this.fields = index(fieldList, annotations);
+            this.methods = index(methodList, annotations);
+        }
+
+        private static <M extends AccessibleObject> Map<Class<? extends Annotation>, List<M>> index(
+                List<M> members, Map<AccessibleObject, Map<Class<? extends Annotation>, Annotation>> annotations) {
+            Map<Class<? extends Annotation>, List<M>> byType = new HashMap<>();
+            for (M member : members) {
+                Annotation[] declared = member.getDeclaredAnnotations();
+                if (declared.length == 0) {
+                    continue;
+                }
+                Map<Class<? extends Annotation>, Annotation> byAnnotationType = new HashMap<>(declared.length * 2);
+                for (Annotation annotation : declared) {
+                    byAnnotationType.put(annotation.annotationType(), annotation);
+                    byType.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>()).add(member);
+                }
+                annotations.put(member, byAnnotationType);
+            }
+            byType.replaceAll((type, list) -> List.copyOf(list));
+            return byType;
+        }
+    }
+
+    /**
+     * Lookup key made of member name and parameter types
+     */
+    private static final class SignatureKey {
+        private final String name;
+        private final Class<?>[] paramTypes;
+        private final int hash;
+
+        SignatureKey(String name, Class<?>[] paramTypes) {
+            this.name = name;
+            this.paramTypes = paramTypes == null ? NO_PARAMS : paramTypes;
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(this.paramTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SignatureKey)) {
+                return false;
+            }
+            SignatureKey other = (SignatureKey) o;
+            return hash == other.hash && name.equals(other.name)
+                    && Arrays.equals(paramTypes, other.paramTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import io.github.qwzhang01.reflection.scanner.ClassScanner;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metadata Warmer - Builds class metadata ahead of time
+ * <p>
+ * Collects fields, methods, constructors and their indexes for many classes in parallel, so the first
+ * request touching a class does not pay the reflection cost. Typically called once during startup.
+ * </p>
+ *
+ * <p>In the default {@link ReflectionConfig.CacheMode#BOUNDED} mode the metadata cache keeps at most
+ * {@link ReflectionConfig#getMaxCacheSize()} classes, so warming more classes than that evicts part of the work
+ * just done, and frequency-based admission may reject classes nobody has requested yet. Use warm-up with
+ * {@link ReflectionConfig.CacheMode#WEAK} or a bound above the number of warmed classes;
+ * {@link WarmUpReport#getEvictedCount()} tells how many entries were evicted during the run.</p>
+ *
+ * <p>Usage example:</p>
+ * <pre>{@code
+ * WarmUpReport report = toolkit.warmUp("com.example.entity", "com.example.dto").join();
+ * log.info("Metadata warm-up: {}", report);
+ * }</pre>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class MetadataWarmer {
+
+    private final ReflectionContext context;
+    private final ClassScanner scanner;
+
+    public MetadataWarmer(ReflectionContext context, ClassScanner scanner) {
+        this.context = context;
+        this.scanner = scanner;
+    }
+
+    /**
+     * Scan the packages and warm up every class found
+     */
+    public CompletableFuture<WarmUpReport> warmUp(Executor executor, String... packageNames) {
+        long start = System.nanoTime();
+
+        CompletableFuture<?>[] scans = new CompletableFuture<?>[packageNames.length];
+        Set<Class<?>> classes = ConcurrentHashMap.newKeySet();
+        for (int i = 0; i < packageNames.length; i++) {
+            String packageName = packageNames[i];
+            scans[i] = CompletableFuture.runAsync(() -> classes.addAll(scanner.scan(packageName)), executor);
+        }
+
+        return CompletableFuture.allOf(scans)
+                .thenCompose(ignored -> warmUp(executor, classes, System.nanoTime() - start, start));
+    }
+
+    /**
+     * Warm up the given classes
+     */
+    public CompletableFuture<WarmUpReport> warmUp(Executor executor, Collection<Class<?>> classes) {
+        return warmUp(executor, new LinkedHashSet<>(classes), 0L, System.nanoTime());
+    }
+
+    private CompletableFuture<WarmUpReport> warmUp(Executor executor, Set<Class<?>> classes,
+                                                   long scanNanos, long start) {
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+        LongAdder buildNanos = new LongAdder();
+        long evictionsBefore = context.getMetadataEvictionCount();
+
+        CompletableFuture<?>[] tasks = classes.stream()
+                .map(clazz -> CompletableFuture.runAsync(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        context.getMetadata(clazz).preload();
+                    } catch (RuntimeException | LinkageError e) {
+                        failures.put(clazz.getName(), e);
+                    } finally {
+                        buildNanos.add(System.nanoTime() - begin);
+                    }
+                }, executor))
+                .toArray(CompletableFuture<?>[]::new);
+
+        return CompletableFuture.allOf(tasks)
+                .thenApply(ignored -> new WarmUpReport(
+                        classes.size(),
+                        failures,
+                        scanNanos,
+                        buildNanos.sum(),
+                        System.nanoTime() - start,
+                        context.getMetadataEvictionCount() - evictionsBefore
+                ));
+    }
+
+    /**
+     * Result of a warm-up run
+     */
+    public static class WarmUpReport {
+        private final int classCount;
+        private final Map<String, Throwable> failures;
+        private final long scanNanos;
+        private final long buildNanos;
+        private final long elapsedNanos;
+        private final long evictedCount;
+
+        public WarmUpReport(int classCount, Map<String, Throwable> failures,
+                            long scanNanos, long buildNanos, long elapsedNanos) {
+            this(classCount, failures, scanNanos, buildNanos, elapsedNanos, 0L);
+        }
+
+        public WarmUpReport(int classCount, Map<String, Throwable> failures,
+                            long scanNanos, long buildNanos, long elapsedNanos, long evictedCount) {
+            this.classCount = classCount;
+            this.failures = Map.copyOf(failures);
+            this.scanNanos = scanNanos;
+            this.buildNanos = buildNanos;
+            this.elapsedNanos = elapsedNanos;
+            this.evictedCount = evictedCount;
+        }
+
+        /**
+         * Number of classes processed, failed ones included
+         */
+        public int getClassCount() {
+            return classCount;
+        }
+
+        public int getWarmedCount() {
+            return classCount - failures.size();
+        }
+
+        /**
+         * Classes whose metadata could not be built, keyed by class name
+         */
+        public Map<String, Throwable> getFailures() {
+            return failures;
+        }
+
+        /**
+         * Wall time spent scanning packages
+         */
+        public long getScanNanos() {
+            return scanNanos;
+        }
+
+        /**
+         * Time spent building metadata, summed over all worker threads
+         */
+        public long getBuildNanos() {
+            return buildNanos;
+        }
+
+        /**
+         * Wall time from start to completion
+         */
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Metadata cache entries evicted while the run was in progress. A non-zero count means the cache bound
+         * is below the warmed set and part of the warm-up was lost.
+         */
+        public long getEvictedCount() {
+            return evictedCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("WarmUpReport{classes=%d, warmed=%d, failed=%s, evicted=%d, scanMs=%.1f, buildMs=%.1f, elapsedMs=%.1f}",
+                    classCount, getWarmedCount(), Arrays.toString(failures.keySet().toArray()), evictedCount,
+                    scanNanos / 1e6, buildNanos / 1e6, elapsedNanos / 1e6);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Executable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Overload Resolver - Picks the method or constructor Java would call for given argument classes
+ * <p>
+ * Follows the three phases of JLS 15.12.2, treating the runtime class of each argument as its static type
+ * and a null argument as the null type:
+ * </p>
+ * <ol>
+ *   <li>Applicable by subtyping, without boxing or varargs</li>
+ *   <li>Applicable with boxing, unboxing and primitive widening</li>
+ *   <li>Applicable as a variable arity call</li>
+ * </ol>
+ *
+ * <p>The first phase with applicable candidates decides; among them the most specific one is chosen.
+ * Candidates that are equally specific make the call ambiguous.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class OverloadResolver {
+
+    private OverloadResolver() {
+    }
+
+    /**
+     * Resolve the call among the candidates
+     *
+     * @param argTypes runtime classes of the arguments, null for a null argument
+     * @return the resolution, or null if no candidate is applicable
+     * @throws ReflectionException if several candidates are applicable and none is most specific
+     */
+    public static <E extends Executable> Resolution<E> resolve(List<E> candidates, Class<?>[] argTypes) {
+        for (Phase phase : Phase.values()) {
+            List<E> applicable = new ArrayList<>();
+            for (E candidate : candidates) {
+                if (phase.isApplicable(candidate, argTypes)) {
+                    applicable.add(candidate);
+                }
+            }
+            if (!applicable.isEmpty()) {
+                E chosen = mostSpecific(applicable, argTypes.length, phase == Phase.VARIABLE_ARITY);
+                return new Resolution<>(chosen, phase == Phase.VARIABLE_ARITY);
+            }
+        }
+        return null;
+    }
+
+    private static <E extends Executable> E mostSpecific(List<E> applicable, int argCount, boolean varargs) {
+        E best = null;
+        for (E candidate : applicable) {
+            boolean maximal = true;
+            for (E other : applicable) {
+                if (other != candidate && !isMoreSpecific(candidate, other, argCount, varargs)) {
+                    maximal = false;
+                    break;
+                }
+            }
+            if (maximal) {
+                if (best != null) {
+                    throw ambiguous(applicable);
+                }
+                best = candidate;
+            }
+        }
+        if (best == null) {
+            throw ambiguous(applicable);
+        }
+        return best;
+    }
+
+    private static boolean isMoreSpecific(Executable m1, Executable m2, int argCount, boolean varargs) {
+        for (int i = 0; i < argCount; i++) {
+            if (!isSubtype(parameterType(m1, i, varargs), parameterType(m2, i, varargs))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Class<?> parameterType(Executable executable, int index, boolean varargs) {
+        Class<?>[] paramTypes = executable.getParameterTypes();
+        int last = paramTypes.length - 1;
+        if (varargs && index >= last) {
+            return paramTypes[last].getComponentType();
+        }
+        return paramTypes[index];
+    }
+
+    private static ReflectionException ambiguous(List<? extends Executable> applicable) {
+        return new ReflectionException("Ambiguous call, candidates: " + applicable);
+    }
+
+    /**
+     * Subtyping including primitive widening, e.g. int is a subtype of long
+     */
+    private static boolean isSubtype(Class<?> type, Class<?> target) {
+        if (type.isPrimitive() || target.isPrimitive()) {
+            return type == target
+                    || (type.isPrimitive() && target.isPrimitive() && Primitives.isWidening(type, target));
+        }
+        return target.isAssignableFrom(type);
+    }
+
+    private static boolean isStrictlyConvertible(Class<?> argType, Class<?> paramType) {
+        if (argType == null) {
+            return !paramType.isPrimitive();
+        }
+        return isSubtype(argType, paramType);
+    }
+
+    private static boolean isLooselyConvertible(Class<?> argType, Class<?> paramType) {
+        if (isStrictlyConvertible(argType, paramType)) {
+            return true;
+        }
+        if (argType == null) {
+            return false;
+        }
+        if (paramType.isPrimitive()) {
+            // Unboxing, then widening
+            Class<?> primitive = Primitives.unwrap(argType);
+            return primitive.isPrimitive() && isSubtype(primitive, paramType);
+        }
+        // Boxing, then widening reference conversion
+        return argType.isPrimitive() && paramType.isAssignableFrom(Primitives.wrap(argType));
+    }
+
+    private enum Phase {
+        STRICT {
+            @Override
+            boolean isApplicable(Executable candidate, Class<?>[] argTypes) {
+                Class<?>[] paramTypes = candidate.getParameterTypes();
+                if (paramTypes.length != argTypes.length) {
+                    return false;
+                }
+                for (int i = 0; i < argTypes.length; i++) {
+                    if (!isStrictlyConvertible(argTypes[i], paramTypes[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        },
+        LOOSE {
+            @Override
+            boolean isApplicable(Executable candidate, Class<?>[] argTypes) {
+                Class<?>[] paramTypes = candidate.getParameterTypes();
+                if (paramTypes.length != argTypes.length) {
+                    return false;
+                }
+                for (int i = 0; i < argTypes.length; i++) {
+                    if (!isLooselyConvertible(argTypes[i], paramTypes[i])) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        },
+        VARIABLE_ARITY {
+            @Override
+            boolean isApplicable(Executable candidate, Class<?>[] argTypes) {
+                if (!candidate.isVarArgs()) {
+                    return false;
+                }
+                Class<?>[] paramTypes = candidate.getParameterTypes();
+                int fixed = paramTypes.length - 1;
+                if (argTypes.length < fixed) {
+                    return false;
+                }
+                for (int i = 0; i < fixed; i++) {
+                    if (!isLooselyConvertible(argTypes[i], paramTypes[i])) {
+                        return false;
+                    }
+                }
+                Class<?> componentType = paramTypes[fixed].getComponentType();
+                for (int i = fixed; i < argTypes.length; i++) {
+                    if (!isLooselyConvertible(argTypes[i], componentType)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        };
+
+        abstract boolean isApplicable(Executable candidate, Class<?>[] argTypes);
+    }
+
+    /**
+     * Outcome of a resolution: the chosen method or constructor and how its arguments are passed
+     *
+     * @param <E> {@link java.lang.reflect.Method} or {@link java.lang.reflect.Constructor}
+     */
+    public static final class Resolution<E extends Executable> {
+        private final E executable;
+        private final boolean variableArity;
+
+        Resolution(E executable, boolean variableArity) {
+            this.executable = executable;
+            this.variableArity = variableArity;
+        }
+
+        public E getExecutable() {
+            return executable;
+        }
+
+        /**
+         * Whether the trailing arguments are collected into the varargs array
+         */
+        public boolean isVariableArity() {
+            return variableArity;
+        }
+
+        /**
+         * Arrange the arguments as the reflective call expects them. Only variable arity calls are changed:
+         * the trailing arguments are packed into an array of the varargs component type.
+         */
+        public Object[] adaptArguments(Object[] args) {
+            if (!variableArity) {
+                return args;
+            }
+            Class<?>[] paramTypes = executable.getParameterTypes();
+            int fixed = paramTypes.length - 1;
+            Object packed = Array.newInstance(paramTypes[fixed].getComponentType(), args.length - fixed);
+            for (int i = fixed; i < args.length; i++) {
+                Array.set(packed, i - fixed, args[i]);
+            }
+            Object[] adapted = new Object[paramTypes.length];
+            System.arraycopy(args, 0, adapted, 0, fixed);
+            adapted[fixed] = packed;
+            return adapted;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import java.util.Map;
+
+/**
+ * Primitives - Mapping between primitive types and their wrapper classes
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class Primitives {
+
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(
+            boolean.class, Boolean.class,
+            byte.class, Byte.class,
+            char.class, Character.class,
+            short.class, Short.class,
+            int.class, Integer.class,
+            long.class, Long.class,
+            float.class, Float.class,
+            double.class, Double.class,
+            void.class, Void.class);
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+            Boolean.class, boolean.class,
+            Byte.class, byte.class,
+            Character.class, char.class,
+            Short.class, short.class,
+            Integer.class, int.class,
+            Long.class, long.class,
+            Float.class, float.class,
+            Double.class, double.class,
+            Void.class, void.class);
+
+    private static final Map<Class<?>, Object> DEFAULTS = Map.of(
+            boolean.class, false,
+            byte.class, (byte) 0,
+            char.class, '\0',
+            short.class, (short) 0,
+            int.class, 0,
+            long.class, 0L,
+            float.class, 0f,
+            double.class, 0d);
+
+    private Primitives() {
+    }
+
+    /**
+     * Wrapper class of a primitive type, any other type is returned unchanged
+     */
+    public static Class<?> wrap(Class<?> type) {
+        return type.isPrimitive() ? WRAPPERS.get(type) : type;
+    }
+
+    /**
+     * Primitive type of a wrapper class, any other type is returned unchanged
+     */
+    public static Class<?> unwrap(Class<?> type) {
+        Class<?> primitive = PRIMITIVES.get(type);
+        return primitive == null ? type : primitive;
+    }
+
+    /**
+     * Whether the type is a wrapper class of a primitive type
+     */
+    public static boolean isWrapper(Class<?> type) {
+        return PRIMITIVES.containsKey(type);
+    }
+
+    /**
+     * Whether a primitive widening conversion (JLS 5.1.2) converts the first primitive type to the second
+     */
+    public static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == byte.class) {
+            return to == short.class || to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == short.class || from == char.class) {
+            return to == int.class || to == long.class || to == float.class || to == double.class;
+        }
+        if (from == int.class) {
+            return to == long.class || to == float.class || to == double.class;
+        }
+        if (from == long.class) {
+            return to == float.class || to == double.class;
+        }
+        return from == float.class && to == double.class;
+    }
+
+    /**
+     * Whether a value can be passed where the type is expected: null for reference types, an instance of the type,
+     * or for primitive types a wrapper whose value converts by identity or widening
+     */
+    public static boolean isAssignableValue(Class<?> type, Object value) {
+        if (value == null) {
+            return !type.isPrimitive();
+        }
+        if (!type.isPrimitive()) {
+            return type.isInstance(value);
+        }
+        Class<?> primitive = unwrap(value.getClass());
+        return primitive == type || isWidening(primitive, type);
+    }
+
+    /**
+     * Default value of a type: zero or false for primitive types, null otherwise
+     */
+    public static Object defaultValue(Class<?> type) {
+        return type.isPrimitive() && type != void.class ? DEFAULTS.get(type) : null;
+    }
+}
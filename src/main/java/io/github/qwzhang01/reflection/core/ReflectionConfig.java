@@ -15,6 +15,12 @@
  */
 package io.github.qwzhang01.reflection.core;
 
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
 /**
  * Reflection Configuration Class
  * <p>
@@ -31,6 +37,10 @@ public class ReflectionConfig {
     private boolean autoSetAccessible = true;
     private int maxCacheSize = 1000;
     private boolean includeInheritedMembers = true;
+    private CacheMode cacheMode = CacheMode.BOUNDED;
+    private Executor warmUpExecutor = ForkJoinPool.commonPool();
+    private Path scanSnapshotFile;
+    private final Set<Class<?>> constructorBypassClasses = ConcurrentHashMap.newKeySet();
 
     public boolean isCacheEnabled() {
         return cacheEnabled;
@@ -63,8 +73,84 @@ public class ReflectionConfig {
         return includeInheritedMembers;
     }
 
+    /**
+     * Whether metadata includes members of superclasses and interfaces. Applies to metadata created
+     * afterwards, call {@link ReflectionContext#clearCache()} after changing it.
+     */
     public ReflectionConfig setIncludeInheritedMembers(boolean includeInheritedMembers) {
         this.includeInheritedMembers = includeInheritedMembers;
         return this;
     }
+
+    public CacheMode getCacheMode() {
+        return cacheMode;
+    }
+
+    /**
+     * Select how class metadata is cached, see {@link CacheMode}
+     */
+    public ReflectionConfig setCacheMode(CacheMode cacheMode) {
+        this.cacheMode = cacheMode;
+        return this;
+    }
+
+    public Executor getWarmUpExecutor() {
+        return warmUpExecutor;
+    }
+
+    /**
+     * Executor used to scan packages and build metadata in {@link MetadataWarmer}, defaults to the common pool
+     */
+    public ReflectionConfig setWarmUpExecutor(Executor warmUpExecutor) {
+        this.warmUpExecutor = warmUpExecutor;
+        return this;
+    }
+
+    public Path getScanSnapshotFile() {
+        return scanSnapshotFile;
+    }
+
+    /**
+     * Persist package scan results in this file and reuse them on the next start,
+     * see {@link io.github.qwzhang01.reflection.scanner.SnapshotScanner}. Null (the default) disables the snapshot.
+     */
+    public ReflectionConfig setScanSnapshotFile(Path scanSnapshotFile) {
+        this.scanSnapshotFile = scanSnapshotFile;
+        return this;
+    }
+
+    public boolean isConstructorBypassed(Class<?> clazz) {
+        return constructorBypassClasses.contains(clazz);
+    }
+
+    /**
+     * Let copies and objects mapped from maps of this class be allocated without running any constructor,
+     * see {@link io.github.qwzhang01.reflection.factory.InstanceFactory#instantiate(Class)}. The same as annotating
+     * the class with {@link io.github.qwzhang01.reflection.factory.SkipConstructor}.
+     */
+    public ReflectionConfig addConstructorBypass(Class<?> clazz) {
+        constructorBypassClasses.add(clazz);
+        return this;
+    }
+
+    public ReflectionConfig removeConstructorBypass(Class<?> clazz) {
+        constructorBypassClasses.remove(clazz);
+        return this;
+    }
+
+    /**
+     * Metadata cache mode
+     */
+    public enum CacheMode {
+        /**
+         * Size-bounded map keyed by class, see {@link BoundedCache}. Entries hold their class strongly
+         * until they are evicted or the cache is cleared.
+         */
+        BOUNDED,
+        /**
+         * Metadata is attached to the class through {@link ClassValue}, so it is collected together with
+         * the class and its ClassLoader. Use this in containers that redeploy applications.
+         */
+        WEAK
+    }
 }
@@ -15,8 +15,16 @@
  */
 package io.github.qwzhang01.reflection.core;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 /**
  * Reflection Context - Adopts Singleton Design Pattern
@@ -33,21 +41,44 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Cache management: Provide cache clearing and statistics functionality</li>
  * </ul>
  *
+ * <p>Both caches are {@link BoundedCache} instances limited by {@link ReflectionConfig#getMaxCacheSize()}.
+ * In {@link ReflectionConfig.CacheMode#WEAK} mode metadata is stored through {@link ClassValue} instead,
+ * so it never keeps a ClassLoader alive.</p>
+ *
+ * <p>Hit/miss/load/eviction counters and per-operation call counts are exposed through
+ * {@link #getStatistics()} and the JMX MBean {@value #MBEAN_NAME}.</p>
+ *
  * @author avinzhang
  * @since 1.0
  */
 public class ReflectionContext {
 
+    /**
+     * JMX object name of the statistics MBean
+     */
+    public static final String MBEAN_NAME = "io.github.qwzhang01.reflection:type=ReflectionContext";
+
     private static volatile ReflectionContext instance;
 
-    private final Map<String, Class<?>> classCache;
-    private final Map<Class<?>, ClassMetadata> metadataCache;
+    private final BoundedCache<String, Class<?>> classCache;
+    private final BoundedCache<Class<?>, ClassMetadata> metadataCache;
     private final ReflectionConfig config;
+    private final ReflectionMetrics metrics;
+    private final LongAdder weakLookupCount;
+    private final LongAdder weakMissCount;
+    // Bound once, a method reference per lookup would allocate on every call
+    private final Function<Class<?>, ClassMetadata> metadataFactory = this::createMetadata;
+    private volatile WeakMetadataCache weakMetadataCache;
 
     private ReflectionContext() {
-        this.classCache = new ConcurrentHashMap<>(256);
-        this.metadataCache = new ConcurrentHashMap<>(256);
         this.config = new ReflectionConfig();
+        this.metrics = new ReflectionMetrics();
+        this.classCache = new BoundedCache<>(config::getMaxCacheSize);
+        this.metadataCache = new BoundedCache<>(config::getMaxCacheSize);
+        this.weakLookupCount = new LongAdder();
+        this.weakMissCount = new LongAdder();
+        this.weakMetadataCache = new WeakMetadataCache(metadataFactory, weakMissCount);
+        registerMBean();
     }
 
     /**
@@ -72,38 +103,154 @@ public class ReflectionContext {
         return metadataCache;
     }
 
+    /**
+     * Get class metadata, creating and caching it on first access
+     */
+    public ClassMetadata getMetadata(Class<?> clazz) {
+        if (config.getCacheMode() == ReflectionConfig.CacheMode.WEAK) {
+            weakLookupCount.increment();
+            return weakMetadataCache.get(clazz);
+        }
+        return metadataCache.computeIfAbsent(clazz, metadataFactory);
+    }
+
+    /**
+     * Number of entries evicted from the bounded metadata cache since creation
+     */
+    long getMetadataEvictionCount() {
+        return metadataCache.getEvictionCount();
+    }
+
+    private ClassMetadata createMetadata(Class<?> clazz) {
+        return new ClassMetadata(clazz, config.isIncludeInheritedMembers(), metrics);
+    }
+
     public ReflectionConfig getConfig() {
         return config;
     }
 
+    public ReflectionMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Clear all caches
      */
     public void clearCache() {
         classCache.clear();
         metadataCache.clear();
+        // A ClassValue cannot be cleared as a whole, so start over with a fresh one
+        weakMetadataCache = new WeakMetadataCache(metadataFactory, weakMissCount);
+    }
+
+    /**
+     * Reset everything {@link #getStatistics()} counts: cache hits, misses and evictions, load times and
+     * operation counters. Cached entries are kept.
+     */
+    public void resetStatistics() {
+        classCache.resetStatistics();
+        metadataCache.resetStatistics();
+        weakLookupCount.reset();
+        weakMissCount.reset();
+        metrics.reset();
     }
 
     /**
      * Get cache statistics
+     * <p>
+     * In weak mode the metadata cache size counts metadata created since the last clear, entries that
+     * were already collected with their class are still included.
+     * </p>
      */
     public CacheStatistics getStatistics() {
+        long weakMisses = weakMissCount.sum();
         return new CacheStatistics(
                 classCache.size(),
-                metadataCache.size()
+                metadataCache.size() + weakMetadataCache.size(),
+                metadataCache.getHitCount() + weakLookupCount.sum() - weakMisses,
+                metadataCache.getMissCount() + weakMisses,
+                metrics.getLoadCount(),
+                metrics.getTotalLoadNanos(),
+                metrics.getMaxLoadNanos(),
+                classCache.getEvictionCount() + metadataCache.getEvictionCount(),
+                metrics.getOperationCounts()
         );
     }
 
+    private void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new StatisticsMBean(this), name);
+            }
+        } catch (JMException | SecurityException e) {
+            // JMX is optional, statistics stay available through getStatistics()
+        }
+    }
+
+    /**
+     * Metadata stored on the class itself, values are reclaimed together with the class
+     */
+    private static final class WeakMetadataCache extends ClassValue<ClassMetadata> {
+        private final Function<Class<?>, ClassMetadata> factory;
+        private final LongAdder missCount;
+        private final LongAdder created = new LongAdder();
+
+        WeakMetadataCache(Function<Class<?>, ClassMetadata> factory, LongAdder missCount) {
+            this.factory = factory;
+            this.missCount = missCount;
+        }
+
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            created.increment();
+            missCount.increment();
+            return factory.apply(type);
+        }
+
+        int size() {
+            return created.intValue();
+        }
+    }
+
     /**
      * Cache statistics information
      */
     public static class CacheStatistics {
         private final int classCacheSize;
         private final int metadataCacheSize;
+        private final long hitCount;
+        private final long missCount;
+        private final long loadCount;
+        private final long totalLoadNanos;
+        private final long maxLoadNanos;
+        private final long evictionCount;
+        private final Map<ReflectionMetrics.Operation, Long> operationCounts;
 
         public CacheStatistics(int classCacheSize, int metadataCacheSize) {
+            this(classCacheSize, metadataCacheSize, 0L);
+        }
+
+        public CacheStatistics(int classCacheSize, int metadataCacheSize, long evictionCount) {
+            this(classCacheSize, metadataCacheSize, 0L, 0L, 0L, 0L, 0L, evictionCount,
+                    new EnumMap<>(ReflectionMetrics.Operation.class));
+        }
+
+        public CacheStatistics(int classCacheSize, int metadataCacheSize,
+                               long hitCount, long missCount,
+                               long loadCount, long totalLoadNanos, long maxLoadNanos,
+                               long evictionCount,
+                               Map<ReflectionMetrics.Operation, Long> operationCounts) {
             this.classCacheSize = classCacheSize;
             this.metadataCacheSize = metadataCacheSize;
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadCount = loadCount;
+            this.totalLoadNanos = totalLoadNanos;
+            this.maxLoadNanos = maxLoadNanos;
+            this.evictionCount = evictionCount;
+            this.operationCounts = Collections.unmodifiableMap(operationCounts);
         }
 
         public int getClassCacheSize() {
@@ -114,10 +261,129 @@ public class ReflectionContext {
             return metadataCacheSize;
         }
 
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        /**
+         * Hit rate of metadata lookups, 1.0 when nothing has been looked up yet
+         */
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public long getTotalLoadNanos() {
+            return totalLoadNanos;
+        }
+
+        public long getMaxLoadNanos() {
+            return maxLoadNanos;
+        }
+
+        public double getAverageLoadNanos() {
+            return loadCount == 0 ? 0.0 : (double) totalLoadNanos / loadCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getOperationCount(ReflectionMetrics.Operation operation) {
+            return operationCounts.getOrDefault(operation, 0L);
+        }
+
+        public Map<ReflectionMetrics.Operation, Long> getOperationCounts() {
+            return operationCounts;
+        }
+
         @Override
         public String toString() {
-            return String.format("CacheStatistics{classes=%d, metadata=%d}",
-                    classCacheSize, metadataCacheSize);
+            return String.format("CacheStatistics{classes=%d, metadata=%d, hits=%d, misses=%d, " +
+                            "loads=%d, totalLoadNanos=%d, maxLoadNanos=%d, evictions=%d, operations=%s}",
+                    classCacheSize, metadataCacheSize, hitCount, missCount,
+                    loadCount, totalLoadNanos, maxLoadNanos, evictionCount, operationCounts);
+        }
+    }
+
+    /**
+     * JMX adapter reading a fresh statistics snapshot for every attribute
+     */
+    private static final class StatisticsMBean implements ReflectionStatisticsMXBean {
+        private final ReflectionContext context;
+
+        StatisticsMBean(ReflectionContext context) {
+            this.context = context;
+        }
+
+        @Override
+        public int getClassCacheSize() {
+            return context.getStatistics().getClassCacheSize();
+        }
+
+        @Override
+        public int getMetadataCacheSize() {
+            return context.getStatistics().getMetadataCacheSize();
+        }
+
+        @Override
+        public long getHitCount() {
+            return context.getStatistics().getHitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return context.getStatistics().getMissCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return context.getStatistics().getHitRate();
+        }
+
+        @Override
+        public long getLoadCount() {
+            return context.metrics.getLoadCount();
+        }
+
+        @Override
+        public long getTotalLoadNanos() {
+            return context.metrics.getTotalLoadNanos();
+        }
+
+        @Override
+        public long getMaxLoadNanos() {
+            return context.metrics.getMaxLoadNanos();
+        }
+
+        @Override
+        public double getAverageLoadNanos() {
+            return context.getStatistics().getAverageLoadNanos();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return context.getStatistics().getEvictionCount();
+        }
+
+        @Override
+        public Map<String, Long> getOperationCounts() {
+            Map<String, Long> counts = new LinkedHashMap<>();
+            context.metrics.getOperationCounts().forEach((operation, count) -> counts.put(operation.name(), count));
+            return counts;
+        }
+
+        @Override
+        public void resetMetrics() {
+            context.resetStatistics();
         }
     }
 }
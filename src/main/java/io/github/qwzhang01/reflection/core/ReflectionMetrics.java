@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reflection Metrics - Runtime counters of the reflection toolkit
+ * <p>
+ * Records metadata load times and per-operation call counts. All counters are striped
+ * ({@link LongAdder}/{@link LongAccumulator}), so recording from many threads does not contend.
+ * Cache hit, miss and eviction counts are kept by the caches themselves and combined in
+ * {@link ReflectionContext#getStatistics()}.
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class ReflectionMetrics {
+
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder totalLoadNanos = new LongAdder();
+    private final LongAccumulator maxLoadNanos = new LongAccumulator(Math::max, 0L);
+    private final LongAdder[] operationCounts;
+
+    public ReflectionMetrics() {
+        Operation[] operations = Operation.values();
+        this.operationCounts = new LongAdder[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            operationCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Record one metadata collection (fields, methods or constructors of a class)
+     */
+    public void recordLoad(long nanos) {
+        loadCount.increment();
+        totalLoadNanos.add(nanos);
+        maxLoadNanos.accumulate(nanos);
+    }
+
+    /**
+     * Record one call of a reflective operation
+     */
+    public void recordOperation(Operation operation) {
+        operationCounts[operation.ordinal()].increment();
+    }
+
+    public long getLoadCount() {
+        return loadCount.sum();
+    }
+
+    public long getTotalLoadNanos() {
+        return totalLoadNanos.sum();
+    }
+
+    public long getMaxLoadNanos() {
+        return maxLoadNanos.get();
+    }
+
+    public long getOperationCount(Operation operation) {
+        return operationCounts[operation.ordinal()].sum();
+    }
+
+    /**
+     * Snapshot of all operation counters
+     */
+    public Map<Operation, Long> getOperationCounts() {
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            counts.put(operation, getOperationCount(operation));
+        }
+        return counts;
+    }
+
+    /**
+     * Reset all counters
+     */
+    public void reset() {
+        loadCount.reset();
+        totalLoadNanos.reset();
+        maxLoadNanos.reset();
+        for (LongAdder counter : operationCounts) {
+            counter.reset();
+        }
+    }
+
+    /**
+     * Tracked reflective operations
+     */
+    public enum Operation {
+        FIELD_GET,
+        FIELD_SET,
+        METHOD_INVOKE,
+        STATIC_METHOD_INVOKE,
+        INSTANCE_CREATE
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.core;
+
+import java.util.Map;
+
+/**
+ * JMX view of the reflection toolkit statistics
+ * <p>
+ * Registered by {@link ReflectionContext} under {@value ReflectionContext#MBEAN_NAME}.
+ * Every attribute is read from a fresh {@link ReflectionContext.CacheStatistics} snapshot.
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public interface ReflectionStatisticsMXBean {
+
+    int getClassCacheSize();
+
+    int getMetadataCacheSize();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    long getLoadCount();
+
+    long getTotalLoadNanos();
+
+    long getMaxLoadNanos();
+
+    double getAverageLoadNanos();
+
+    long getEvictionCount();
+
+    /**
+     * Call counts keyed by {@link ReflectionMetrics.Operation} name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Reset every counter this bean reports: cache hits, misses and evictions, load times and operation
+     * counters, see {@link ReflectionContext#resetStatistics()}
+     */
+    void resetMetrics();
+}
@@ -8,6 +8,10 @@ package io.github.qwzhang01.reflection.exception;
  */
 public class ReflectionException extends RuntimeException {
 
+    public ReflectionException(String message) {
+        super(message);
+    }
+
     public ReflectionException(String message, Throwable cause) {
         super(message, cause);
     }
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.factory;
+
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.core.Primitives;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import io.github.qwzhang01.reflection.invoke.Invoker;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Argument Plan - Creates instances through a constructor that takes every property as an argument
+ * <p>
+ * Used for classes without a usable no-arg constructor: records, through their canonical constructor, and
+ * classes with a {@link Creator} constructor. The plan names the constructor parameters, so callers collect
+ * values by property name into an argument array (see {@link #newArguments()}, {@link #indexOf(String)}) and
+ * create the instance in one call. The constructor is compiled into an {@link Invoker}, which does not keep
+ * the array: the same array can be reset and reused for the next instance.
+ * </p>
+ *
+ * <p>Plans are immutable and thread-safe, obtain them through
+ * {@link InstanceFactory#getArgumentPlan(Class)}, which caches them per class.</p>
+ *
+ * @param <T> type of the created instances
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class ArgumentPlan<T> {
+
+    private final Class<T> targetClass;
+    private final List<String> names;
+    private final Class<?>[] types;
+    private final Map<String, Integer> indexes;
+    private final Invoker invoker;
+    private final BeanProperty[] sourceProperties;
+
+    private ArgumentPlan(Class<T> targetClass, String[] names, Class<?>[] types, Invoker invoker,
+                         BeanProperty[] sourceProperties) {
+        this.targetClass = targetClass;
+        this.names = List.of(names);
+        this.types = types;
+        this.invoker = invoker;
+        this.sourceProperties = sourceProperties;
+        this.indexes = new HashMap<>(names.length * 2);
+        for (int i = 0; i < names.length; i++) {
+            indexes.put(names[i], i);
+        }
+    }
+
+    /**
+     * Plan for the canonical constructor of a record or the {@link Creator} constructor of a class
+     *
+     * @return the plan, or null if the class is neither a record nor has a creator constructor
+     * @throws ReflectionException if the creator constructor is ambiguous or its parameter names are unknown
+     */
+    static <T> ArgumentPlan<T> compile(Class<T> targetClass, ClassMetadata metadata) {
+        Constructor<?> constructor = null;
+        String[] names = null;
+        if (targetClass.isRecord()) {
+            RecordComponent[] components = targetClass.getRecordComponents();
+            names = new String[components.length];
+            Class<?>[] types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+                types[i] = components[i].getType();
+            }
+            constructor = metadata.findConstructor(types);
+        } else {
+            for (Constructor<?> candidate : metadata.getConstructors()) {
+                Creator creator = candidate.getAnnotation(Creator.class);
+                if (creator == null) {
+                    continue;
+                }
+                if (constructor != null) {
+                    throw new ReflectionException("Several @Creator constructors in " + targetClass.getName());
+                }
+                constructor = candidate;
+                names = creator.value().length > 0 ? creator.value() : parameterNames(candidate);
+            }
+        }
+        if (constructor == null) {
+            return null;
+        }
+        if (names.length != constructor.getParameterCount()) {
+            throw new ReflectionException("@Creator of " + targetClass.getName() + " names " + names.length
+                    + " properties for " + constructor.getParameterCount() + " parameters");
+        }
+
+        BeanProperty[] sourceProperties = new BeanProperty[names.length];
+        for (int i = 0; i < names.length; i++) {
+            sourceProperties[i] = metadata.findProperty(names[i]);
+        }
+        return new ArgumentPlan<>(targetClass, names.clone(), constructor.getParameterTypes(),
+                Invoker.of(constructor), sourceProperties);
+    }
+
+    private static String[] parameterNames(Constructor<?> constructor) {
+        Parameter[] parameters = constructor.getParameters();
+        String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            if (!parameters[i].isNamePresent()) {
+                throw new ReflectionException("Parameter names of " + constructor + " are not available, "
+                        + "compile with -parameters or list them in @Creator");
+            }
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    public Class<T> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * Property names in argument order
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    public Class<?> getType(int index) {
+        return types[index];
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    /**
+     * Argument position of the property, or -1 if the constructor does not take it
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * New argument array holding the default value of every parameter type
+     */
+    public Object[] newArguments() {
+        Object[] args = new Object[types.length];
+        reset(args);
+        return args;
+    }
+
+    /**
+     * Put the default value of every parameter type back into the array, so it can be reused
+     */
+    public void reset(Object[] args) {
+        for (int i = 0; i < types.length; i++) {
+            args[i] = Primitives.defaultValue(types[i]);
+        }
+    }
+
+    /**
+     * Put the value at the property's position if the parameter accepts it
+     *
+     * @return whether the value was stored
+     */
+    public boolean offer(Object[] args, String name, Object value) {
+        int index = indexOf(name);
+        if (index < 0 || !Primitives.isAssignableValue(types[index], value)) {
+            return false;
+        }
+        args[index] = value;
+        return true;
+    }
+
+    /**
+     * Fill the array with the property values of an existing instance, as needed to copy it
+     *
+     * @throws ReflectionException if the class has no readable property for a parameter
+     */
+    public void readArguments(Object source, Object[] args) {
+        for (int i = 0; i < sourceProperties.length; i++) {
+            if (sourceProperties[i] == null) {
+                throw new ReflectionException("No property " + names.get(i) + " to read in " + targetClass.getName());
+            }
+            args[i] = sourceProperties[i].get(source);
+        }
+    }
+
+    /**
+     * Create an instance from the arguments; the array is not kept
+     */
+    public T newInstance(Object[] args) {
+        return targetClass.cast(invoker.invoke(null, args));
+    }
+
+    @Override
+    public String toString() {
+        return "ArgumentPlan[" + targetClass.getSimpleName() + Arrays.toString(types) + " " + names + "]";
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.factory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the constructor that mappers and copiers use to create instances of an immutable class
+ * <p>
+ * Each parameter receives the property of the same name. Names are taken from {@link #value()} or, when it is
+ * empty, from the parameter names, which requires compiling with {@code -parameters}. Records need no annotation:
+ * their canonical constructor is used.
+ * </p>
+ *
+ * @author avinzhang
+ * @see ArgumentPlan
+ * @since 1.3
+ */
+@Target(ElementType.CONSTRUCTOR)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Creator {
+
+    /**
+     * Property names of the parameters, in parameter order
+     */
+    String[] value() default {};
+}
@@ -17,11 +17,24 @@ package io.github.qwzhang01.reflection.factory;
 
 import io.github.qwzhang01.reflection.core.ClassMetadata;
 import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.core.ReflectionMetrics;
 import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.Invoker;
+import io.github.qwzhang01.reflection.invoke.LambdaFactory;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Instance Factory - Adopts Factory Design Pattern
@@ -35,6 +48,12 @@ import java.util.Optional;
  *   <li>No-arg constructor creation</li>
  *   <li>Creation with specified parameter types and values</li>
  *   <li>Auto-match parameter types creation</li>
+ *   <li>Constructors compiled into arity-specialized {@link Invoker}s</li>
+ *   <li>Cached compiled {@link Supplier}s and {@link Function}s, so repeated creation costs about a plain {@code new}</li>
+ *   <li>{@link ArgumentPlan}s for records and {@link Creator} constructors, which take every property as an argument</li>
+ *   <li>Allocation without running any constructor, for classes that opt in with {@link SkipConstructor}</li>
+ *   <li>Bulk creation into lists, streams and preallocated arrays, optionally in parallel, and from columnar
+ *       constructor arguments</li>
  * </ul>
  *
  * @author avinzhang
@@ -42,37 +61,352 @@ import java.util.Optional;
  */
 public class InstanceFactory {
 
+    /**
+     * Minimum array length {@link #fillInstances(Object[], Class, ForkJoinPool)} splits across the pool
+     */
+    public static final int PARALLEL_THRESHOLD = 1 << 14;
+
     private final ReflectionContext context;
 
+    /**
+     * Compiled no-arg constructors. Kept in a {@link ClassValue} rather than the metadata cache, so creating
+     * an instance skips the metadata lookup; the entries cannot go stale and do not pin the classes. Shared by
+     * all factories, so a short-lived factory does not compile a constructor again.
+     */
+    private static final ClassValue<Supplier<?>> suppliers = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return compileSupplier(type);
+        }
+    };
+
+    private static final ClassValue<Optional<ArgumentPlan<?>>> argumentPlans = new ClassValue<Optional<ArgumentPlan<?>>>() {
+        @Override
+        protected Optional<ArgumentPlan<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(ArgumentPlan.compile(type, getOrCreateMetadata(type)));
+        }
+    };
+
+    /**
+     * Constructor-less allocators, built from serialization constructors
+     */
+    private static final ClassValue<Supplier<?>> allocators = new ClassValue<Supplier<?>>() {
+        @Override
+        protected Supplier<?> computeValue(Class<?> type) {
+            return compileAllocator(type);
+        }
+    };
+
+    private static final ClassValue<Boolean> skipConstructorAnnotated = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return type.isAnnotationPresent(SkipConstructor.class);
+        }
+    };
+
     public InstanceFactory() {
         this.context = ReflectionContext.getInstance();
     }
 
     /**
-     * Create instance (no-arg constructor)
+     * Create instance (no-arg constructor), through the cached compiled supplier
      */
     public <T> T createInstance(Class<T> clazz) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Supplier<T> supplier = getSupplier(clazz);
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            constructor.setAccessible(true);
-            return constructor.newInstance();
+            return supplier.get();
         } catch (Exception e) {
             throw new ReflectionException("Failed to create instance: " + clazz.getName(), e);
         }
     }
 
     /**
-     * Create instance (parameterized constructor)
+     * Create instance (parameterized constructor), through the cached compiled factory
      */
     public <T> T createInstance(Class<T> clazz, Class<?>[] paramTypes, Object... args) {
-        Constructor<T> constructor = getConstructor(clazz, paramTypes)
-                .orElseThrow(() -> new RuntimeException("Constructor does not exist"));
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Function<Object[], T> factory = getFactory(clazz, paramTypes);
+
+        try {
+            return factory.apply(args);
+        } catch (Exception e) {
+            throw new ReflectionException("Failed to create instance: " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * Create the given number of instances through the no-arg constructor, compiled once for the whole batch
+     *
+     * @return a mutable list of new instances
+     */
+    public <T> List<T> createInstances(Class<T> clazz, int count) {
+        if (count < 0) {
+            throw new ReflectionException("Negative instance count: " + count);
+        }
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Supplier<T> supplier = getSupplier(clazz);
+        List<T> instances = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                instances.add(supplier.get());
+            }
+        } catch (Exception e) {
+            throw new ReflectionException("Failed to create instance: " + clazz.getName(), e);
+        }
+        return instances;
+    }
+
+    /**
+     * Infinite stream of new instances created through the no-arg constructor; limit it before a terminal
+     * operation
+     */
+    public <T> Stream<T> generateInstances(Class<T> clazz) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Supplier<T> supplier = getSupplier(clazz);
+        return Stream.generate(() -> {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                throw new ReflectionException("Failed to create instance: " + clazz.getName(), e);
+            }
+        });
+    }
+
+    /**
+     * Fill every slot of the array with a new instance created through the no-arg constructor
+     *
+     * @return the array
+     */
+    public <T> T[] fillInstances(T[] array, Class<? extends T> clazz) {
+        return fillInstances(array, clazz, null);
+    }
 
+    /**
+     * Fill every slot of the array with a new instance created through the no-arg constructor. Arrays of at
+     * least {@value #PARALLEL_THRESHOLD} elements are filled by the pool when one is given.
+     *
+     * @param pool pool to fill large arrays with, or null to fill on the calling thread
+     * @return the array
+     */
+    public <T> T[] fillInstances(T[] array, Class<? extends T> clazz, ForkJoinPool pool) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Supplier<? extends T> supplier = getSupplier(clazz);
         try {
-            return constructor.newInstance(args);
+            if (pool == null || array.length < PARALLEL_THRESHOLD) {
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = supplier.get();
+                }
+            } else {
+                // Parallel operations started inside a pool task run in that pool
+                pool.invoke(ForkJoinTask.adapt(() -> Arrays.parallelSetAll(array, i -> supplier.get())));
+            }
+        } catch (ReflectionException e) {
+            throw e;
         } catch (Exception e) {
             throw new ReflectionException("Failed to create instance: " + clazz.getName(), e);
         }
+        return array;
+    }
+
+    /**
+     * Create one instance per row of columnar constructor arguments: {@code columns[j][i]} is argument
+     * {@code j} of instance {@code i}. The constructor is compiled once and the argument array is reused.
+     *
+     * @param paramTypes exact parameter types of the constructor
+     * @param columns    one column per parameter, all of the same length
+     * @return a mutable list of new instances, in row order
+     * @throws ReflectionException if the column count does not match the parameters or the columns differ in length
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> createInstances(Class<T> clazz, Class<?>[] paramTypes, Object[][] columns) {
+        if (paramTypes.length == 0 || columns.length != paramTypes.length) {
+            throw new ReflectionException("Expected " + paramTypes.length + " argument columns, got "
+                    + columns.length);
+        }
+        int count = columns[0].length;
+        for (Object[] column : columns) {
+            if (column.length != count) {
+                throw new ReflectionException("Argument columns differ in length: " + count + " and "
+                        + column.length);
+            }
+        }
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Invoker invoker = compileConstructor(clazz, paramTypes);
+        Object[] args = new Object[paramTypes.length];
+        List<T> instances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < args.length; j++) {
+                args[j] = columns[j][i];
+            }
+            instances.add((T) invoker.invoke(null, args));
+        }
+        return instances;
+    }
+
+    /**
+     * Get the no-arg constructor compiled into a {@link Supplier} with LambdaMetafactory, cached per class.
+     * Calling it costs about as much as {@code new}.
+     *
+     * @throws ReflectionException if the class has no no-arg constructor or it cannot be compiled
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> getSupplier(Class<T> clazz) {
+        return (Supplier<T>) suppliers.get(clazz);
+    }
+
+    private static Supplier<?> compileSupplier(Class<?> clazz) {
+        Constructor<?> constructor = getOrCreateMetadata(clazz).findConstructor();
+        if (constructor == null) {
+            throw new ReflectionException("Failed to create instance: " + clazz.getName(),
+                    new NoSuchMethodException(clazz.getName() + ".<init>()"));
+        }
+        return LambdaFactory.implement(Supplier.class, constructor);
+    }
+
+    /**
+     * Create an instance whose state the caller is about to overwrite, such as a copy or an object mapped from a
+     * map. Classes annotated with {@link SkipConstructor} or registered with
+     * {@link io.github.qwzhang01.reflection.core.ReflectionConfig#addConstructorBypass(Class)} are allocated without
+     * running any constructor, other classes through their no-arg constructor.
+     */
+    public <T> T instantiate(Class<T> clazz) {
+        if (isConstructorBypassed(clazz)) {
+            return allocateInstance(clazz);
+        }
+        return createInstance(clazz);
+    }
+
+    /**
+     * Whether {@link #instantiate(Class)} skips the constructors of the class
+     */
+    public boolean isConstructorBypassed(Class<?> clazz) {
+        return skipConstructorAnnotated.get(clazz) || context.getConfig().isConstructorBypassed(clazz);
+    }
+
+    /**
+     * Allocate an instance without running any constructor or field initializer: every field holds its default
+     * value. Works for classes without a no-arg constructor too.
+     *
+     * @throws ReflectionException if the class is abstract, an interface, an array, a primitive or a record,
+     *                             or the JDK does not offer serialization constructors
+     */
+    public <T> T allocateInstance(Class<T> clazz) {
+        context.getMetrics().recordOperation(ReflectionMetrics.Operation.INSTANCE_CREATE);
+        Supplier<T> allocator = getAllocator(clazz);
+        try {
+            return allocator.get();
+        } catch (ReflectionException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ReflectionException("Failed to allocate instance: " + clazz.getName(), e);
+        }
+    }
+
+    /**
+     * Get the cached constructor-less allocator of the class, see {@link #allocateInstance(Class)}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> getAllocator(Class<T> clazz) {
+        return (Supplier<T>) allocators.get(clazz);
+    }
+
+    /**
+     * Build the allocator from the constructor serialization uses: it allocates the class but only runs
+     * {@link Object#Object()}, so no constructor of the class or its superclasses is executed
+     */
+    private static Supplier<?> compileAllocator(Class<?> clazz) {
+        if (clazz.isInterface() || clazz.isArray() || clazz.isPrimitive() || clazz.isRecord()
+                || Modifier.isAbstract(clazz.getModifiers())) {
+            throw new ReflectionException("Cannot allocate instance: " + clazz.getName());
+        }
+        if (SerializationConstructors.FAILURE != null) {
+            throw new ReflectionException("Cannot allocate instance: " + clazz.getName(),
+                    SerializationConstructors.FAILURE);
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = (Constructor<?>) SerializationConstructors.NEW_CONSTRUCTOR.invoke(
+                    SerializationConstructors.FACTORY, clazz, SerializationConstructors.OBJECT_CONSTRUCTOR);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            throw new ReflectionException("Cannot allocate instance: " + clazz.getName(), e);
+        }
+        if (constructor == null) {
+            throw new ReflectionException("Cannot allocate instance: " + clazz.getName());
+        }
+        return () -> {
+            try {
+                return constructor.newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new ReflectionException("Failed to allocate instance: " + clazz.getName(), e);
+            }
+        };
+    }
+
+    /**
+     * {@code sun.reflect.ReflectionFactory#newConstructorForSerialization} from the {@code jdk.unsupported}
+     * module, looked up once and only by name, so the build does not depend on the internal API
+     */
+    private static final class SerializationConstructors {
+        static final Object FACTORY;
+        static final Method NEW_CONSTRUCTOR;
+        static final Constructor<Object> OBJECT_CONSTRUCTOR;
+        static final Throwable FAILURE;
+
+        static {
+            Object factory = null;
+            Method newConstructor = null;
+            Constructor<Object> objectConstructor = null;
+            Throwable failure = null;
+            try {
+                Class<?> factoryClass = Class.forName("sun.reflect.ReflectionFactory");
+                factory = factoryClass.getMethod("getReflectionFactory").invoke(null);
+                newConstructor = factoryClass.getMethod("newConstructorForSerialization",
+                        Class.class, Constructor.class);
+                objectConstructor = Object.class.getDeclaredConstructor();
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                failure = e;
+            }
+            FACTORY = factory;
+            NEW_CONSTRUCTOR = newConstructor;
+            OBJECT_CONSTRUCTOR = objectConstructor;
+            FAILURE = failure;
+        }
+    }
+
+    /**
+     * Get the plan for creating instances through the canonical constructor of a record or the {@link Creator}
+     * constructor of a class, cached per class
+     *
+     * @return the plan, or empty if the class is neither a record nor has a creator constructor
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public <T> Optional<ArgumentPlan<T>> getArgumentPlan(Class<T> clazz) {
+        return (Optional) argumentPlans.get(clazz);
+    }
+
+    /**
+     * Get the constructor with the exact parameter types compiled into a {@link Function} taking the argument
+     * array, cached per constructor
+     *
+     * @throws RuntimeException if the class has no such constructor
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Function<Object[], T> getFactory(Class<T> clazz, Class<?>... paramTypes) {
+        ClassMetadata metadata = getOrCreateMetadata(clazz);
+        Constructor<?> constructor = metadata.findConstructor(paramTypes);
+        if (constructor == null) {
+            throw new RuntimeException("Constructor does not exist");
+        }
+        Map<Constructor<?>, Function<Object[], ?>> factories = metadata.getDerivedCache(Function.class);
+        Function<Object[], ?> factory = factories.get(constructor);
+        if (factory == null) {
+            factory = factories.computeIfAbsent(constructor, c -> {
+                Invoker invoker = compileConstructor(clazz, paramTypes);
+                return args -> invoker.invoke(null, args);
+            });
+        }
+        return (Function<Object[], T>) factory;
     }
 
     /**
@@ -86,17 +420,28 @@ public class InstanceFactory {
         return createInstance(clazz, paramTypes, args);
     }
 
+    /**
+     * Compile the constructor with the exact parameter types into an {@link Invoker}, cached per constructor.
+     * The invoker ignores its target argument and returns the new instance.
+     */
+    public Invoker compileConstructor(Class<?> clazz, Class<?>... paramTypes) {
+        ClassMetadata metadata = getOrCreateMetadata(clazz);
+        Constructor<?> constructor = metadata.findConstructor(paramTypes);
+        if (constructor == null) {
+            throw new RuntimeException("Constructor does not exist");
+        }
+        Map<Constructor<?>, Invoker> invokers = metadata.getDerivedCache(Invoker.class);
+        Invoker invoker = invokers.get(constructor);
+        return invoker != null ? invoker : invokers.computeIfAbsent(constructor, Invoker::of);
+    }
+
     /**
      * Get constructor
      */
     @SuppressWarnings("unchecked")
     public <T> Optional<Constructor<T>> getConstructor(Class<T> clazz, Class<?>... paramTypes) {
         ClassMetadata metadata = getOrCreateMetadata(clazz);
-
-        return metadata.getConstructors().stream()
-                .filter(c -> Arrays.equals(c.getParameterTypes(), paramTypes))
-                .map(c -> (Constructor<T>) c)
-                .findFirst();
+        return Optional.ofNullable((Constructor<T>) metadata.findConstructor(paramTypes));
     }
 
     /**
@@ -108,8 +453,7 @@ public class InstanceFactory {
         return (Constructor<T>[]) metadata.getConstructors().toArray(new Constructor[0]);
     }
 
-    private ClassMetadata getOrCreateMetadata(Class<?> clazz) {
-        return context.getMetadataCache()
-                .computeIfAbsent(clazz, ClassMetadata::new);
+    private static ClassMetadata getOrCreateMetadata(Class<?> clazz) {
+        return ReflectionContext.getInstance().getMetadata(clazz);
     }
 }
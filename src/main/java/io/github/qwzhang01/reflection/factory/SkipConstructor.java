@@ -0,0 +1,39 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.factory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose copies and map-created instances are allocated without running any constructor
+ * <p>
+ * Field initializers and constructor bodies are skipped, so every field starts at its default value until the
+ * copier or mapper sets it. Use it for classes whose constructors do work that is overwritten anyway, such as
+ * creating default collections or generating ids. Classes can also opt in at runtime through
+ * {@link io.github.qwzhang01.reflection.core.ReflectionConfig#addConstructorBypass(Class)}.
+ * </p>
+ *
+ * @author avinzhang
+ * @see InstanceFactory#instantiate(Class)
+ * @since 1.3
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SkipConstructor {
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bean Access - Index-based access to all properties of a bean class
+ * <p>
+ * Properties are addressed by their position in {@link #getProperties()}, so walking a whole object is one
+ * call site per operation instead of one megamorphic lambda call per property. {@link #of(Class, List)}
+ * defines a hidden class (see {@link java.lang.invoke.MethodHandles.Lookup#defineHiddenClass}) that extends
+ * this class and overrides {@link #get}, {@link #set} and the typed variants for every primitive type with a
+ * {@code switch} over the property index. Each case reads or writes the field, or calls the getter/setter,
+ * with plain bytecode.
+ * </p>
+ *
+ * <p>Properties the generated class cannot reach directly (e.g. private members of a superclass, final fields)
+ * fall through to the implementation in this class, which uses the compiled {@link BeanProperty} accessors;
+ * those box {@code boolean}, {@code float}, {@code short}, {@code byte} and {@code char} values.
+ * When no hidden class can be defined at all, an instance of this class is returned as is.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BeanAccess {
+
+    private final Class<?> beanClass;
+    private final BeanProperty[] properties;
+    private final Map<String, Integer> indexes;
+
+    protected BeanAccess(Class<?> beanClass, BeanProperty[] properties) {
+        this.beanClass = beanClass;
+        this.properties = properties;
+        this.indexes = new HashMap<>(properties.length * 2);
+        for (int i = 0; i < properties.length; i++) {
+            indexes.put(properties[i].getName(), i);
+        }
+    }
+
+    /**
+     * Create the access for a bean class, generating a hidden class when possible
+     *
+     * @param properties the bean properties, their order defines the property indexes
+     */
+    public static BeanAccess of(Class<?> beanClass, List<BeanProperty> properties) {
+        BeanProperty[] array = properties.toArray(new BeanProperty[0]);
+        BeanAccess generated = BeanAccessGenerator.generate(beanClass, array);
+        return generated != null ? generated : new BeanAccess(beanClass, array);
+    }
+
+    public Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    public List<BeanProperty> getProperties() {
+        return List.of(properties);
+    }
+
+    public int size() {
+        return properties.length;
+    }
+
+    /**
+     * Index of the property, or -1 if the bean has no such property
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Whether the accessors were compiled into a hidden class
+     */
+    public boolean isGenerated() {
+        return getClass() != BeanAccess.class;
+    }
+
+    public Object get(Object bean, int index) {
+        return properties[index].get(bean);
+    }
+
+    public void set(Object bean, int index, Object value) {
+        properties[index].set(bean, value);
+    }
+
+    public int getInt(Object bean, int index) {
+        ToIntFunction<Object> reader = properties[index].getIntReader();
+        if (reader == null) {
+            throw typeMismatch(index, int.class);
+        }
+        return reader.applyAsInt(bean);
+    }
+
+    public void setInt(Object bean, int index, int value) {
+        ObjIntConsumer<Object> writer = properties[index].getIntWriter();
+        if (writer == null) {
+            throw typeMismatch(index, int.class);
+        }
+        writer.accept(bean, value);
+    }
+
+    public long getLong(Object bean, int index) {
+        ToLongFunction<Object> reader = properties[index].getLongReader();
+        if (reader == null) {
+            throw typeMismatch(index, long.class);
+        }
+        return reader.applyAsLong(bean);
+    }
+
+    public void setLong(Object bean, int index, long value) {
+        ObjLongConsumer<Object> writer = properties[index].getLongWriter();
+        if (writer == null) {
+            throw typeMismatch(index, long.class);
+        }
+        writer.accept(bean, value);
+    }
+
+    public double getDouble(Object bean, int index) {
+        ToDoubleFunction<Object> reader = properties[index].getDoubleReader();
+        if (reader == null) {
+            throw typeMismatch(index, double.class);
+        }
+        return reader.applyAsDouble(bean);
+    }
+
+    public void setDouble(Object bean, int index, double value) {
+        ObjDoubleConsumer<Object> writer = properties[index].getDoubleWriter();
+        if (writer == null) {
+            throw typeMismatch(index, double.class);
+        }
+        writer.accept(bean, value);
+    }
+
+    public boolean getBoolean(Object bean, int index) {
+        return (Boolean) properties[checkType(index, boolean.class)].get(bean);
+    }
+
+    public void setBoolean(Object bean, int index, boolean value) {
+        properties[checkType(index, boolean.class)].set(bean, value);
+    }
+
+    public float getFloat(Object bean, int index) {
+        return (Float) properties[checkType(index, float.class)].get(bean);
+    }
+
+    public void setFloat(Object bean, int index, float value) {
+        properties[checkType(index, float.class)].set(bean, value);
+    }
+
+    public short getShort(Object bean, int index) {
+        return (Short) properties[checkType(index, short.class)].get(bean);
+    }
+
+    public void setShort(Object bean, int index, short value) {
+        properties[checkType(index, short.class)].set(bean, value);
+    }
+
+    public byte getByte(Object bean, int index) {
+        return (Byte) properties[checkType(index, byte.class)].get(bean);
+    }
+
+    public void setByte(Object bean, int index, byte value) {
+        properties[checkType(index, byte.class)].set(bean, value);
+    }
+
+    public char getChar(Object bean, int index) {
+        return (Character) properties[checkType(index, char.class)].get(bean);
+    }
+
+    public void setChar(Object bean, int index, char value) {
+        properties[checkType(index, char.class)].set(bean, value);
+    }
+
+    /**
+     * Read all properties into a new array, in index order
+     */
+    public Object[] getAll(Object bean) {
+        Object[] values = new Object[properties.length];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = get(bean, i);
+        }
+        return values;
+    }
+
+    private int checkType(int index, Class<?> type) {
+        if (properties[index].getType() != type) {
+            throw typeMismatch(index, type);
+        }
+        return index;
+    }
+
+    private ReflectionException typeMismatch(int index, Class<?> type) {
+        BeanProperty property = properties[index];
+        return new ReflectionException("Property " + property.getName() + " is of type "
+                + property.getType().getName() + ", not " + type.getName());
+    }
+
+    @Override
+    public String toString() {
+        return "BeanAccess[" + beanClass.getName() + (isGenerated() ? ", generated]" : "]");
+    }
+}
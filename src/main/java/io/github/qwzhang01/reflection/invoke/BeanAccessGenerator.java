@@ -0,0 +1,566 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import io.github.qwzhang01.reflection.core.Primitives;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bean Access Generator - Writes and defines the hidden {@link BeanAccess} subclass of a bean class
+ * <p>
+ * The class file is written by hand, without a bytecode library. It uses class file version 49, which the JVM
+ * verifies by type inference, so no stack map frames have to be computed. The class is defined as a nestmate
+ * of the bean class, so the generated code may also touch the bean class's private fields.
+ * </p>
+ *
+ * <p>Generated methods:</p>
+ * <ul>
+ *   <li>{@code get}/{@code set}: a {@code tableswitch} over all property indexes</li>
+ *   <li>{@code getInt}/{@code setInt} and the other typed variants, one pair per primitive type: a
+ *       {@code lookupswitch} over the properties of that type, without boxing</li>
+ * </ul>
+ * <p>A property that cannot be reached with plain bytecode goes to the default case, which calls the
+ * {@link BeanAccess} implementation through {@code invokespecial}.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+final class BeanAccessGenerator {
+
+    private static final String SUPER_NAME = "io/github/qwzhang01/reflection/invoke/BeanAccess";
+    private static final String CONSTRUCTOR_DESCRIPTOR =
+            "(Ljava/lang/Class;[Lio/github/qwzhang01/reflection/invoke/BeanProperty;)V";
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+
+    private static final int ALOAD_0 = 0x2a;
+    private static final int ALOAD_1 = 0x2b;
+    private static final int ALOAD_2 = 0x2c;
+    private static final int ALOAD_3 = 0x2d;
+    private static final int ILOAD_2 = 0x1c;
+    private static final int ALOAD = 0x19;
+    private static final int ILOAD = 0x15;
+    private static final int LLOAD = 0x16;
+    private static final int FLOAD = 0x17;
+    private static final int DLOAD = 0x18;
+    private static final int ASTORE = 0x3a;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETFIELD = 0xb4;
+    private static final int PUTFIELD = 0xb5;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int CHECKCAST = 0xc0;
+    private static final int TABLESWITCH = 0xaa;
+    private static final int LOOKUPSWITCH = 0xab;
+
+    private final Class<?> beanClass;
+    private final BeanProperty[] properties;
+    private final String beanName;
+    private final ConstantPool pool = new ConstantPool();
+
+    private BeanAccessGenerator(Class<?> beanClass, BeanProperty[] properties) {
+        this.beanClass = beanClass;
+        this.properties = properties;
+        this.beanName = internalName(beanClass);
+    }
+
+    /**
+     * Generate and instantiate the hidden access class
+     *
+     * @return the generated access, or null if the hidden class cannot be defined for this bean class
+     */
+    static BeanAccess generate(Class<?> beanClass, BeanProperty[] properties) {
+        if (beanClass.isHidden() || beanClass.isInterface() || beanClass.isArray() || beanClass.isPrimitive()) {
+            return null;
+        }
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(beanClass, MethodHandles.lookup());
+            byte[] bytes = new BeanAccessGenerator(beanClass, properties).write();
+            MethodHandles.Lookup hidden = lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+            return (BeanAccess) hidden.findConstructor(hidden.lookupClass(),
+                            MethodType.methodType(void.class, Class.class, BeanProperty[].class))
+                    .invoke(beanClass, properties);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            // Not open to this library, or the bean class cannot be linked from the hidden class
+            return null;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to create bean access: " + beanClass.getName(), e);
+        }
+    }
+
+    private byte[] write() {
+        String packageName = beanClass.getPackageName();
+        String className = (packageName.isEmpty() ? "" : packageName.replace('.', '/') + "/") + "BeanAccess$$Generated";
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(SUPER_NAME);
+
+        List<byte[]> methods = new ArrayList<>();
+        methods.add(method("<init>", CONSTRUCTOR_DESCRIPTOR, constructor()));
+        methods.add(method("get", "(Ljava/lang/Object;I)Ljava/lang/Object;", getter(null)));
+        methods.add(method("set", "(Ljava/lang/Object;ILjava/lang/Object;)V", setter(null)));
+        for (Class<?> type : new Class<?>[]{int.class, long.class, double.class, boolean.class, float.class,
+                short.class, byte.class, char.class}) {
+            String suffix = Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+            String descriptor = descriptor(type);
+            methods.add(method("get" + suffix, "(Ljava/lang/Object;I)" + descriptor, getter(type)));
+            methods.add(method("set" + suffix, "(Ljava/lang/Object;I" + descriptor + ")V", setter(type)));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(49);
+            pool.writeTo(out);
+            out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+            out.writeShort(thisClass);
+            out.writeShort(superClass);
+            out.writeShort(0);
+            out.writeShort(0);
+            out.writeShort(methods.size());
+            for (byte[] method : methods) {
+                out.write(method);
+            }
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private byte[] method(String name, String descriptor, Code code) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            byte[] instructions = code.toByteArray();
+            out.writeShort(ACC_PUBLIC);
+            out.writeShort(pool.utf8(name));
+            out.writeShort(pool.utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(pool.utf8("Code"));
+            out.writeInt(12 + instructions.length);
+            // Generous fixed limits: the deepest case needs five stack slots and six locals
+            out.writeShort(8);
+            out.writeShort(8);
+            out.writeInt(instructions.length);
+            out.write(instructions);
+            out.writeShort(0);
+            out.writeShort(0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private Code constructor() {
+        Code code = new Code();
+        code.op(ALOAD_0).op(ALOAD_1).op(ALOAD_2);
+        code.op(INVOKESPECIAL).u2(pool.methodRef(SUPER_NAME, "<init>", CONSTRUCTOR_DESCRIPTOR));
+        code.op(RETURN);
+        return code;
+    }
+
+    /**
+     * {@code get(Object bean, int index)} for a null type, the typed getter otherwise.
+     * Locals: 0 this, 1 bean, 2 index, 3 bean cast to the bean class.
+     */
+    private Code getter(Class<?> type) {
+        Code code = new Code();
+        code.op(ALOAD_1).op(CHECKCAST).u2(pool.classRef(beanName)).op(ASTORE).u1(3);
+
+        Map<Integer, Runnable> cases = new HashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            BeanProperty property = properties[i];
+            if (type != null && property.getType() != type) {
+                continue;
+            }
+            Member member = property.getGetter() != null ? property.getGetter() : property.getField();
+            if (!isAccessible(member)) {
+                continue;
+            }
+            Class<?> propertyType = property.getType();
+            cases.put(i, () -> {
+                code.op(ALOAD_3);
+                if (member instanceof Method) {
+                    code.op(INVOKEVIRTUAL).u2(pool.methodRef(beanName, member.getName(), "()" + descriptor(propertyType)));
+                } else {
+                    code.op(GETFIELD).u2(pool.fieldRef(internalName(member.getDeclaringClass()),
+                            member.getName(), descriptor(propertyType)));
+                }
+                if (type == null) {
+                    box(code, propertyType);
+                    code.op(ARETURN);
+                } else {
+                    code.op(returnOpcode(type));
+                }
+            });
+        }
+
+        String name = type == null ? "get" : "get" + Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+        String descriptor = "(Ljava/lang/Object;I)" + (type == null ? "Ljava/lang/Object;" : descriptor(type));
+        switchOver(code, cases, type == null, () -> {
+            code.op(ALOAD_0).op(ALOAD_1).op(ILOAD_2);
+            code.op(INVOKESPECIAL).u2(pool.methodRef(SUPER_NAME, name, descriptor));
+            code.op(type == null ? ARETURN : returnOpcode(type));
+        });
+        return code;
+    }
+
+    /**
+     * {@code set(Object bean, int index, Object value)} for a null type, the typed setter otherwise.
+     * Locals: 0 this, 1 bean, 2 index, 3 value (3-4 for long and double), then the bean cast to the bean class.
+     */
+    private Code setter(Class<?> type) {
+        int castLocal = type == long.class || type == double.class ? 5 : 4;
+        Code code = new Code();
+        code.op(ALOAD_1).op(CHECKCAST).u2(pool.classRef(beanName)).op(ASTORE).u1(castLocal);
+
+        Map<Integer, Runnable> cases = new HashMap<>();
+        for (int i = 0; i < properties.length; i++) {
+            BeanProperty property = properties[i];
+            if (type != null && property.getType() != type) {
+                continue;
+            }
+            Class<?> propertyType = property.getType();
+            Method setter = property.getSetter();
+            Member member = setter != null ? setter : property.getField();
+            if (!isAccessible(member) || (type == null && !isAccessible(propertyType))
+                    || (setter == null && Modifier.isFinal(property.getField().getModifiers()))) {
+                continue;
+            }
+            cases.put(i, () -> {
+                code.op(ALOAD).u1(castLocal);
+                if (type == null) {
+                    code.op(ALOAD_3);
+                    unbox(code, propertyType);
+                } else {
+                    code.op(loadOpcode(type)).u1(3);
+                }
+                if (member instanceof Method) {
+                    code.op(INVOKEVIRTUAL).u2(pool.methodRef(beanName, member.getName(),
+                            "(" + descriptor(propertyType) + ")V"));
+                } else {
+                    code.op(PUTFIELD).u2(pool.fieldRef(internalName(member.getDeclaringClass()),
+                            member.getName(), descriptor(propertyType)));
+                }
+                code.op(RETURN);
+            });
+        }
+
+        String name = type == null ? "set" : "set" + Character.toUpperCase(type.getName().charAt(0)) + type.getName().substring(1);
+        String descriptor = "(Ljava/lang/Object;I" + (type == null ? "Ljava/lang/Object;" : descriptor(type)) + ")V";
+        switchOver(code, cases, type == null, () -> {
+            code.op(ALOAD_0).op(ALOAD_1).op(ILOAD_2);
+            code.op(type == null ? ALOAD : loadOpcode(type)).u1(3);
+            code.op(INVOKESPECIAL).u2(pool.methodRef(SUPER_NAME, name, descriptor));
+            code.op(RETURN);
+        });
+        return code;
+    }
+
+    /**
+     * Switch on the index (local 2). A dense switch covers every property index, unhandled indexes
+     * share the default case; a sparse switch lists only the handled indexes.
+     */
+    private void switchOver(Code code, Map<Integer, Runnable> cases, boolean dense, Runnable defaultCase) {
+        code.op(ILOAD_2);
+        int switchPc = code.position();
+        int[] keys = cases.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int defaultSlot;
+        int[] caseSlots;
+        if (dense && properties.length > 0) {
+            code.op(TABLESWITCH).align();
+            defaultSlot = code.placeholder();
+            code.u4(0).u4(properties.length - 1);
+            caseSlots = new int[properties.length];
+            for (int i = 0; i < properties.length; i++) {
+                caseSlots[i] = code.placeholder();
+            }
+        } else {
+            code.op(LOOKUPSWITCH).align();
+            defaultSlot = code.placeholder();
+            code.u4(keys.length);
+            caseSlots = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                code.u4(keys[i]);
+                caseSlots[i] = code.placeholder();
+            }
+        }
+
+        int defaultPc = code.position();
+        defaultCase.run();
+        code.patch(defaultSlot, defaultPc - switchPc);
+        if (dense && properties.length > 0) {
+            for (int i = 0; i < properties.length; i++) {
+                code.patch(caseSlots[i], defaultPc - switchPc);
+            }
+        }
+        for (int i = 0; i < keys.length; i++) {
+            int casePc = code.position();
+            cases.get(keys[i]).run();
+            code.patch(dense && properties.length > 0 ? caseSlots[keys[i]] : caseSlots[i], casePc - switchPc);
+        }
+    }
+
+    private void box(Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(Primitives.wrap(type));
+            code.op(INVOKESTATIC).u2(pool.methodRef(wrapper, "valueOf",
+                    "(" + descriptor(type) + ")L" + wrapper + ";"));
+        }
+    }
+
+    private void unbox(Code code, Class<?> type) {
+        if (type.isPrimitive()) {
+            String wrapper = internalName(Primitives.wrap(type));
+            code.op(CHECKCAST).u2(pool.classRef(wrapper));
+            code.op(INVOKEVIRTUAL).u2(pool.methodRef(wrapper, type.getName() + "Value", "()" + descriptor(type)));
+        } else if (type != Object.class) {
+            code.op(CHECKCAST).u2(pool.classRef(type.isArray() ? descriptor(type) : internalName(type)));
+        }
+    }
+
+    /**
+     * Whether plain bytecode in a nestmate of the bean class, in the bean's package, may use the member
+     */
+    private boolean isAccessible(Member member) {
+        Class<?> owner = member.getDeclaringClass();
+        int modifiers = member.getModifiers();
+        if (Modifier.isStatic(modifiers) || owner.isInterface()) {
+            return false;
+        }
+        if (member instanceof Method && Modifier.isPrivate(modifiers)) {
+            // Private methods need invokespecial or nestmate invokevirtual, keep them on the fallback path
+            return false;
+        }
+        if (owner == beanClass) {
+            return true;
+        }
+        if (Modifier.isPrivate(modifiers)) {
+            return false;
+        }
+        if (Modifier.isPublic(modifiers) && Modifier.isPublic(owner.getModifiers())) {
+            return true;
+        }
+        return isSamePackage(owner);
+    }
+
+    private boolean isAccessible(Class<?> type) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        return type.isPrimitive() || Modifier.isPublic(type.getModifiers()) || isSamePackage(type);
+    }
+
+    private boolean isSamePackage(Class<?> type) {
+        return type.getClassLoader() == beanClass.getClassLoader()
+                && type.getPackageName().equals(beanClass.getPackageName());
+    }
+
+    private static int returnOpcode(Class<?> type) {
+        return type == long.class ? LRETURN : type == double.class ? DRETURN : type == float.class ? FRETURN : IRETURN;
+    }
+
+    private static int loadOpcode(Class<?> type) {
+        return type == long.class ? LLOAD : type == double.class ? DLOAD : type == float.class ? FLOAD : ILOAD;
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static String descriptor(Class<?> type) {
+        if (type.isPrimitive()) {
+            switch (type.getName()) {
+                case "boolean":
+                    return "Z";
+                case "byte":
+                    return "B";
+                case "char":
+                    return "C";
+                case "short":
+                    return "S";
+                case "int":
+                    return "I";
+                case "long":
+                    return "J";
+                case "float":
+                    return "F";
+                case "double":
+                    return "D";
+                default:
+                    return "V";
+            }
+        }
+        return type.isArray() ? internalName(type) : "L" + internalName(type) + ";";
+    }
+
+    /**
+     * Growable bytecode buffer with forward jump patching
+     */
+    private static final class Code {
+        private byte[] bytes = new byte[128];
+        private int length;
+
+        Code op(int opcode) {
+            return u1(opcode);
+        }
+
+        Code u1(int value) {
+            ensure(1);
+            bytes[length++] = (byte) value;
+            return this;
+        }
+
+        Code u2(int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        Code u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        /**
+         * Pad with zeros to a four-byte boundary, as the switch instructions require
+         */
+        Code align() {
+            while (length % 4 != 0) {
+                u1(0);
+            }
+            return this;
+        }
+
+        int placeholder() {
+            int position = length;
+            u4(0);
+            return position;
+        }
+
+        void patch(int position, int value) {
+            bytes[position] = (byte) (value >>> 24);
+            bytes[position + 1] = (byte) (value >>> 16);
+            bytes[position + 2] = (byte) (value >>> 8);
+            bytes[position + 3] = (byte) value;
+        }
+
+        int position() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensure(int extra) {
+            if (length + extra > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+        }
+    }
+
+    /**
+     * Constant pool with deduplicated entries
+     */
+    private static final class ConstantPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+        private final Map<String, Integer> entries = new HashMap<>();
+        private int count = 1;
+
+        int utf8(String value) {
+            return entry("U" + value, () -> {
+                out.writeByte(1);
+                out.writeUTF(value);
+            });
+        }
+
+        int classRef(String internalName) {
+            int name = utf8(internalName);
+            return entry("C" + internalName, () -> {
+                out.writeByte(7);
+                out.writeShort(name);
+            });
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(9, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int ownerIndex = classRef(owner);
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            int nameAndType = entry("N" + name + ' ' + descriptor, () -> {
+                out.writeByte(12);
+                out.writeShort(nameIndex);
+                out.writeShort(descriptorIndex);
+            });
+            return entry(tag + owner + '.' + name + ' ' + descriptor, () -> {
+                out.writeByte(tag);
+                out.writeShort(ownerIndex);
+                out.writeShort(nameAndType);
+            });
+        }
+
+        void writeTo(DataOutputStream target) throws IOException {
+            target.writeShort(count);
+            target.write(bytes.toByteArray());
+        }
+
+        private int entry(String key, EntryWriter writer) {
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            try {
+                writer.write();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            entries.put(key, count);
+            return count++;
+        }
+
+        private interface EntryWriter {
+            void write() throws IOException;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Bean Property - Compiled read and write access to one field-backed property
+ * <p>
+ * Every non-static field of a class is a property. It is read through its getter ({@code getX}/{@code isX}
+ * returning the field type) and written through its setter ({@code setX} taking the field type) when they exist,
+ * and through the field's {@link FieldHandle} otherwise. Getters and setters are compiled to lambdas by
+ * {@link LambdaFactory}, so no access goes through {@link Method#invoke(Object, Object...)}.
+ * </p>
+ *
+ * <p>{@code int}, {@code long} and {@code double} properties also expose unboxed readers and writers.
+ * Instances are immutable and cached per class by
+ * {@link io.github.qwzhang01.reflection.core.ClassMetadata#getProperties()}.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class BeanProperty {
+
+    private final Field field;
+    private final Method getter;
+    private final Method setter;
+    private final Function<Object, Object> reader;
+    private final BiConsumer<Object, Object> writer;
+    private final ToIntFunction<Object> intReader;
+    private final ObjIntConsumer<Object> intWriter;
+    private final ToLongFunction<Object> longReader;
+    private final ObjLongConsumer<Object> longWriter;
+    private final ToDoubleFunction<Object> doubleReader;
+    private final ObjDoubleConsumer<Object> doubleWriter;
+
+    private BeanProperty(Field field, Method getter, Method setter, FieldHandle handle) {
+        this.field = field;
+        this.getter = getter;
+        this.setter = setter;
+        Class<?> type = field.getType();
+
+        this.reader = getter != null ? LambdaFactory.getter(getter) : handle::get;
+        this.writer = setter != null ? LambdaFactory.setter(setter) : handle::set;
+        if (type == int.class) {
+            this.intReader = getter != null ? LambdaFactory.intGetter(getter) : handle::getInt;
+            this.intWriter = setter != null ? LambdaFactory.intSetter(setter) : handle::setInt;
+        } else {
+            this.intReader = null;
+            this.intWriter = null;
+        }
+        if (type == long.class) {
+            this.longReader = getter != null ? LambdaFactory.longGetter(getter) : handle::getLong;
+            this.longWriter = setter != null ? LambdaFactory.longSetter(setter) : handle::setLong;
+        } else {
+            this.longReader = null;
+            this.longWriter = null;
+        }
+        if (type == double.class) {
+            this.doubleReader = getter != null ? LambdaFactory.doubleGetter(getter) : handle::getDouble;
+            this.doubleWriter = setter != null ? LambdaFactory.doubleSetter(setter) : handle::setDouble;
+        } else {
+            this.doubleReader = null;
+            this.doubleWriter = null;
+        }
+    }
+
+    /**
+     * Compile the property of a field
+     *
+     * @param getter the field's getter, or null to read the field directly
+     * @param setter the field's setter, or null to write the field directly
+     */
+    public static BeanProperty of(Field field, Method getter, Method setter) {
+        return new BeanProperty(field, getter, setter,
+                getter == null || setter == null ? FieldHandle.of(field) : null);
+    }
+
+    /**
+     * Compile the property of a field, reading or writing it directly through an existing handle
+     *
+     * @param handle the handle of the field, used when the getter or the setter is null
+     */
+    public static BeanProperty of(Field field, Method getter, Method setter, FieldHandle handle) {
+        return new BeanProperty(field, getter, setter, handle);
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * The getter used for reads, or null if the field is read directly
+     */
+    public Method getGetter() {
+        return getter;
+    }
+
+    /**
+     * The setter used for writes, or null if the field is written directly
+     */
+    public Method getSetter() {
+        return setter;
+    }
+
+    public Object get(Object bean) {
+        return reader.apply(bean);
+    }
+
+    public void set(Object bean, Object value) {
+        writer.accept(bean, value);
+    }
+
+    public Function<Object, Object> getReader() {
+        return reader;
+    }
+
+    public BiConsumer<Object, Object> getWriter() {
+        return writer;
+    }
+
+    /**
+     * Unboxed reader, or null if the property is not of type {@code int}
+     */
+    public ToIntFunction<Object> getIntReader() {
+        return intReader;
+    }
+
+    /**
+     * Unboxed writer, or null if the property is not of type {@code int}
+     */
+    public ObjIntConsumer<Object> getIntWriter() {
+        return intWriter;
+    }
+
+    /**
+     * Unboxed reader, or null if the property is not of type {@code long}
+     */
+    public ToLongFunction<Object> getLongReader() {
+        return longReader;
+    }
+
+    /**
+     * Unboxed writer, or null if the property is not of type {@code long}
+     */
+    public ObjLongConsumer<Object> getLongWriter() {
+        return longWriter;
+    }
+
+    /**
+     * Unboxed reader, or null if the property is not of type {@code double}
+     */
+    public ToDoubleFunction<Object> getDoubleReader() {
+        return doubleReader;
+    }
+
+    /**
+     * Unboxed writer, or null if the property is not of type {@code double}
+     */
+    public ObjDoubleConsumer<Object> getDoubleWriter() {
+        return doubleWriter;
+    }
+
+    @Override
+    public String toString() {
+        return "BeanProperty[" + field.getDeclaringClass().getSimpleName() + "." + field.getName() + "]";
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Field Handle - Compiled field accessor backed by {@link VarHandle}
+ * <p>
+ * The field is resolved and access-checked once, when the handle is created. The VarHandle access modes
+ * are turned into erased method handles at that point, so reads and writes are exact invocations without
+ * the per-call access checks of {@link Field#get(Object)} and {@link Field#set(Object, Object)}. Handles are immutable and thread-safe; obtain them through
+ * {@link io.github.qwzhang01.reflection.core.ClassMetadata#getFieldHandle(String)} so each field is
+ * compiled only once.
+ * </p>
+ *
+ * <p>Every access can use {@link AccessMode#PLAIN plain}, {@link AccessMode#VOLATILE volatile} or
+ * {@link AccessMode#OPAQUE opaque} memory semantics. Final instance fields are read through the
+ * VarHandle and written through a setter handle, which only supports plain writes.</p>
+ *
+ * <p>{@code int}, {@code long}, {@code double} and {@code boolean} fields can also be read and written without
+ * boxing through the typed accessors such as {@link #getInt(Object)}; they reject fields of any other type.</p>
+ *
+ * <p>On the hottest paths, keep {@link #getVarHandle()} in a {@code static final} field: the JIT then
+ * compiles accesses through it to the same code as direct field access.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class FieldHandle {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field field;
+    private final VarHandle varHandle;
+    private final MethodHandle[] getters;
+    private final MethodHandle[] setters;
+    private final MethodHandle typedGetter;
+    private final MethodHandle typedSetter;
+
+    private FieldHandle(Field field, VarHandle varHandle, MethodHandle[] getters, MethodHandle[] setters,
+                        MethodHandle typedGetter, MethodHandle typedSetter) {
+        this.field = field;
+        this.varHandle = varHandle;
+        this.getters = getters;
+        this.setters = setters;
+        this.typedGetter = typedGetter;
+        this.typedSetter = typedSetter;
+    }
+
+    /**
+     * Compile a handle for the field
+     *
+     * @throws ReflectionException if the declaring class is not open to this library
+     */
+    public static FieldHandle of(Field field) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                    field.getDeclaringClass(), MethodHandles.lookup());
+            VarHandle varHandle = lookup.unreflectVarHandle(field);
+            int modifiers = field.getModifiers();
+            boolean isStatic = Modifier.isStatic(modifiers);
+            boolean isFinal = Modifier.isFinal(modifiers);
+
+            AccessMode[] modes = AccessMode.values();
+            MethodHandle[] getters = new MethodHandle[modes.length];
+            MethodHandle[] setters = new MethodHandle[modes.length];
+            for (AccessMode mode : modes) {
+                getters[mode.ordinal()] = adapt(varHandle.toMethodHandle(mode.getMode), isStatic, GETTER_TYPE);
+                if (!isFinal) {
+                    setters[mode.ordinal()] = adapt(varHandle.toMethodHandle(mode.setMode), isStatic, SETTER_TYPE);
+                }
+            }
+            MethodHandle plainSetter = isFinal ? null : varHandle.toMethodHandle(VarHandle.AccessMode.SET);
+            if (isFinal && !isStatic && field.trySetAccessible()) {
+                // VarHandles of final fields are read-only, only an accessible Field can write them
+                plainSetter = finalSetter(lookup, field);
+                if (plainSetter != null) {
+                    setters[AccessMode.PLAIN.ordinal()] = plainSetter.asType(SETTER_TYPE);
+                }
+            }
+
+            // Unboxed plain access for the primitive types with typed accessors
+            MethodHandle typedGetter = null;
+            MethodHandle typedSetter = null;
+            Class<?> type = field.getType();
+            if (type == int.class || type == long.class || type == double.class || type == boolean.class) {
+                typedGetter = adapt(varHandle.toMethodHandle(VarHandle.AccessMode.GET), isStatic,
+                        MethodType.methodType(type, Object.class));
+                if (plainSetter != null) {
+                    typedSetter = adapt(plainSetter, isStatic,
+                            MethodType.methodType(void.class, Object.class, type));
+                }
+            }
+            return new FieldHandle(field, varHandle, getters, setters, typedGetter, typedSetter);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionException("Failed to compile field access: " + field, e);
+        }
+    }
+
+    /**
+     * Setter of a final instance field, or null if the field cannot be written at all (record components,
+     * fields of hidden classes)
+     */
+    private static MethodHandle finalSetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return lookup.unreflectSetter(field);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Bring an access handle to the erased (Object)Object or (Object, Object)void shape,
+     * so calls can use invokeExact. Static fields ignore the target argument.
+     */
+    private static MethodHandle adapt(MethodHandle access, boolean isStatic, MethodType type) {
+        if (isStatic) {
+            access = MethodHandles.dropArguments(access, 0, Object.class);
+        }
+        return access.asType(type);
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    public VarHandle getVarHandle() {
+        return varHandle;
+    }
+
+    /**
+     * Read the field with plain semantics
+     *
+     * @param target the instance, ignored for static fields
+     */
+    public Object get(Object target) {
+        return get(target, AccessMode.PLAIN);
+    }
+
+    /**
+     * Read the field with the given memory semantics
+     *
+     * @param target the instance, ignored for static fields
+     */
+    public Object get(Object target, AccessMode mode) {
+        try {
+            return (Object) getters[mode.ordinal()].invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to get field value: " + field.getName(), e);
+        }
+    }
+
+    /**
+     * Write the field with plain semantics
+     *
+     * @param target the instance, ignored for static fields
+     */
+    public void set(Object target, Object value) {
+        set(target, value, AccessMode.PLAIN);
+    }
+
+    /**
+     * Write the field with the given memory semantics
+     *
+     * @param target the instance, ignored for static fields
+     * @throws ReflectionException if the field is final and cannot be written with that mode
+     */
+    public void set(Object target, Object value, AccessMode mode) {
+        MethodHandle setter = setters[mode.ordinal()];
+        if (setter == null) {
+            throw new ReflectionException("Cannot write final field with " + mode + " access: " + field);
+        }
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to set field value: " + field.getName(), e);
+        }
+    }
+
+    public int getInt(Object target) {
+        requireType(int.class);
+        try {
+            return (int) typedGetter.invokeExact(target);
+        } catch (Throwable e) {
+            throw failure("get", e);
+        }
+    }
+
+    public void setInt(Object target, int value) {
+        requireWritable(int.class);
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw failure("set", e);
+        }
+    }
+
+    public long getLong(Object target) {
+        requireType(long.class);
+        try {
+            return (long) typedGetter.invokeExact(target);
+        } catch (Throwable e) {
+            throw failure("get", e);
+        }
+    }
+
+    public void setLong(Object target, long value) {
+        requireWritable(long.class);
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw failure("set", e);
+        }
+    }
+
+    public double getDouble(Object target) {
+        requireType(double.class);
+        try {
+            return (double) typedGetter.invokeExact(target);
+        } catch (Throwable e) {
+            throw failure("get", e);
+        }
+    }
+
+    public void setDouble(Object target, double value) {
+        requireWritable(double.class);
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw failure("set", e);
+        }
+    }
+
+    public boolean getBoolean(Object target) {
+        requireType(boolean.class);
+        try {
+            return (boolean) typedGetter.invokeExact(target);
+        } catch (Throwable e) {
+            throw failure("get", e);
+        }
+    }
+
+    public void setBoolean(Object target, boolean value) {
+        requireWritable(boolean.class);
+        try {
+            typedSetter.invokeExact(target, value);
+        } catch (Throwable e) {
+            throw failure("set", e);
+        }
+    }
+
+    /**
+     * Typed accessors only accept the exact primitive type, wrapper fields and widening are rejected
+     */
+    private void requireType(Class<?> type) {
+        if (field.getType() != type) {
+            throw new ReflectionException("Field " + field.getName() + " is of type "
+                    + field.getType().getName() + ", not " + type.getName());
+        }
+    }
+
+    private void requireWritable(Class<?> type) {
+        requireType(type);
+        if (typedSetter == null) {
+            throw new ReflectionException("Cannot write final field: " + field);
+        }
+    }
+
+    private RuntimeException failure(String operation, Throwable e) {
+        if (e instanceof RuntimeException) {
+            return (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new ReflectionException("Failed to " + operation + " field value: " + field.getName(), e);
+    }
+
+    @Override
+    public String toString() {
+        return "FieldHandle[" + field + "]";
+    }
+
+    /**
+     * Memory semantics of a field access, see {@link VarHandle}
+     */
+    public enum AccessMode {
+        /**
+         * Ordinary field access, as if the field were accessed directly
+         */
+        PLAIN(VarHandle.AccessMode.GET, VarHandle.AccessMode.SET),
+        /**
+         * Access with the semantics of a volatile field, regardless of how the field is declared
+         */
+        VOLATILE(VarHandle.AccessMode.GET_VOLATILE, VarHandle.AccessMode.SET_VOLATILE),
+        /**
+         * Access that is atomic and coherent per variable but imposes no ordering on other variables
+         */
+        OPAQUE(VarHandle.AccessMode.GET_OPAQUE, VarHandle.AccessMode.SET_OPAQUE);
+
+        private final VarHandle.AccessMode getMode;
+        private final VarHandle.AccessMode setMode;
+
+        AccessMode(VarHandle.AccessMode getMode, VarHandle.AccessMode setMode) {
+            this.getMode = getMode;
+            this.setMode = setMode;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invoker - Compiled method or constructor call with arity-specialized entry points
+ * <p>
+ * The member is unreflected once into a {@link MethodHandle} and adapted to the erased shape
+ * {@code (Object target, Object a1, ..., Object an)Object}. {@link #invoke0(Object)} to
+ * {@link #invoke6(Object, Object, Object, Object, Object, Object, Object)} call it with invokeExact,
+ * so unlike {@link Method#invoke(Object, Object...)} they need neither an argument array nor per-call
+ * access checks: a call allocates nothing beyond boxing and what the member itself allocates.
+ * </p>
+ *
+ * <p>Use the entry point matching the parameter count. The target is ignored for static methods and
+ * constructors; a constructor returns the new instance, a void method returns null. Members with more than
+ * six parameters, and callers that already hold an argument array, use {@link #invoke(Object, Object...)}.</p>
+ *
+ * <p>Invokers are immutable and thread-safe. Compiling one is expensive, obtain them through
+ * {@link io.github.qwzhang01.reflection.accessor.MethodAccessor#compile(Class, String, Class[])} or
+ * {@link io.github.qwzhang01.reflection.factory.InstanceFactory#compileConstructor(Class, Class[])},
+ * which cache them per member.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class Invoker {
+
+    /**
+     * Highest parameter count with a dedicated entry point
+     */
+    public static final int MAX_ARITY = 6;
+
+    private final Executable member;
+    private final int arity;
+    private final MethodHandle handle;
+    private final MethodHandle spreader;
+
+    private Invoker(Executable member, MethodHandle handle) {
+        this.member = member;
+        this.arity = member.getParameterCount();
+        this.handle = handle;
+        this.spreader = handle.asSpreader(Object[].class, arity);
+    }
+
+    /**
+     * Compile an invoker for the method
+     *
+     * @throws ReflectionException if the declaring class is not open to this library
+     */
+    public static Invoker of(Method method) {
+        try {
+            MethodHandle target = LambdaFactory.lookupFor(method.getDeclaringClass()).unreflect(method);
+            return new Invoker(method, erase(target, Modifier.isStatic(method.getModifiers())));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionException("Failed to compile method invocation: " + method, e);
+        }
+    }
+
+    /**
+     * Compile an invoker for the constructor
+     *
+     * @throws ReflectionException if the declaring class is not open to this library
+     */
+    public static Invoker of(Constructor<?> constructor) {
+        if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+            throw new ReflectionException("Cannot instantiate abstract class: "
+                    + constructor.getDeclaringClass().getName());
+        }
+        try {
+            MethodHandle target = LambdaFactory.lookupFor(constructor.getDeclaringClass())
+                    .unreflectConstructor(constructor);
+            return new Invoker(constructor, erase(target, true));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionException("Failed to compile constructor invocation: " + constructor, e);
+        }
+    }
+
+    /**
+     * Bring the handle to (Object, Object...)Object with one Object per parameter. Members without
+     * a receiver get an ignored leading target, varargs members take their array as a single argument.
+     */
+    private static MethodHandle erase(MethodHandle target, boolean ignoreTarget) {
+        target = target.asFixedArity();
+        if (ignoreTarget) {
+            target = MethodHandles.dropArguments(target, 0, Object.class);
+        }
+        return target.asType(MethodType.genericMethodType(target.type().parameterCount()));
+    }
+
+    public Executable getMember() {
+        return member;
+    }
+
+    /**
+     * Number of arguments the member takes, not counting the target
+     */
+    public int getArity() {
+        return arity;
+    }
+
+    public Object invoke0(Object target) {
+        checkArity(0);
+        try {
+            return handle.invokeExact(target);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke1(Object target, Object a1) {
+        checkArity(1);
+        try {
+            return handle.invokeExact(target, a1);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke2(Object target, Object a1, Object a2) {
+        checkArity(2);
+        try {
+            return handle.invokeExact(target, a1, a2);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke3(Object target, Object a1, Object a2, Object a3) {
+        checkArity(3);
+        try {
+            return handle.invokeExact(target, a1, a2, a3);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke4(Object target, Object a1, Object a2, Object a3, Object a4) {
+        checkArity(4);
+        try {
+            return handle.invokeExact(target, a1, a2, a3, a4);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke5(Object target, Object a1, Object a2, Object a3, Object a4, Object a5) {
+        checkArity(5);
+        try {
+            return handle.invokeExact(target, a1, a2, a3, a4, a5);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    public Object invoke6(Object target, Object a1, Object a2, Object a3, Object a4, Object a5, Object a6) {
+        checkArity(6);
+        try {
+            return handle.invokeExact(target, a1, a2, a3, a4, a5, a6);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    /**
+     * Invoke with an argument array of exactly {@link #getArity()} elements, for any arity
+     */
+    public Object invoke(Object target, Object... args) {
+        checkArity(args.length);
+        try {
+            return spreader.invokeExact(target, args);
+        } catch (Throwable e) {
+            throw failure(e);
+        }
+    }
+
+    private void checkArity(int count) {
+        if (count != arity) {
+            throw new ReflectionException("Wrong number of arguments for " + member
+                    + ": expected " + arity + ", got " + count);
+        }
+    }
+
+    private RuntimeException failure(Throwable e) {
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return new ReflectionException("Failed to invoke: " + member, e);
+    }
+
+    @Override
+    public String toString() {
+        return "Invoker[" + member + "]";
+    }
+}
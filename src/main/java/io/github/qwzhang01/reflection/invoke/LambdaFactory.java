@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.invoke;
+
+import io.github.qwzhang01.reflection.core.Primitives;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjDoubleConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Lambda Factory - Turns methods into functional interface instances with {@link LambdaMetafactory}
+ * <p>
+ * The generated lambda calls the method directly, the same way a method reference in source code does,
+ * so after JIT compilation a getter called through a {@link Function} costs about as much as a direct call.
+ * Generation is expensive (a hidden class per lambda): cache the results, as
+ * {@link io.github.qwzhang01.reflection.core.ClassMetadata#getProperties()} does.
+ * </p>
+ *
+ * <p>When the declaring class is not open to this library, or its lookup lacks the privileges
+ * LambdaMetafactory requires, the factory falls back to {@link MethodHandleProxies}, which is correct but slower.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public final class LambdaFactory {
+
+    private LambdaFactory() {
+    }
+
+    /**
+     * Getter as {@code Function<Object, Object>}, primitive results are boxed
+     */
+    @SuppressWarnings("unchecked")
+    public static Function<Object, Object> getter(Method getter) {
+        return create(Function.class, "apply", getter,
+                MethodType.methodType(Object.class, Object.class),
+                MethodType.methodType(Primitives.wrap(getter.getReturnType()), getter.getDeclaringClass()));
+    }
+
+    /**
+     * Setter as {@code BiConsumer<Object, Object>}, primitive parameters are unboxed
+     */
+    @SuppressWarnings("unchecked")
+    public static BiConsumer<Object, Object> setter(Method setter) {
+        return create(BiConsumer.class, "accept", setter,
+                MethodType.methodType(void.class, Object.class, Object.class),
+                MethodType.methodType(void.class, setter.getDeclaringClass(),
+                        Primitives.wrap(setter.getParameterTypes()[0])));
+    }
+
+    /**
+     * Getter of an {@code int} property as {@code ToIntFunction}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ToIntFunction<Object> intGetter(Method getter) {
+        return create(ToIntFunction.class, "applyAsInt", getter,
+                MethodType.methodType(int.class, Object.class), exactType(getter));
+    }
+
+    /**
+     * Getter of a {@code long} property as {@code ToLongFunction}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ToLongFunction<Object> longGetter(Method getter) {
+        return create(ToLongFunction.class, "applyAsLong", getter,
+                MethodType.methodType(long.class, Object.class), exactType(getter));
+    }
+
+    /**
+     * Getter of a {@code double} property as {@code ToDoubleFunction}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ToDoubleFunction<Object> doubleGetter(Method getter) {
+        return create(ToDoubleFunction.class, "applyAsDouble", getter,
+                MethodType.methodType(double.class, Object.class), exactType(getter));
+    }
+
+    /**
+     * Setter of an {@code int} property as {@code ObjIntConsumer}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjIntConsumer<Object> intSetter(Method setter) {
+        return create(ObjIntConsumer.class, "accept", setter,
+                MethodType.methodType(void.class, Object.class, int.class), exactType(setter));
+    }
+
+    /**
+     * Setter of a {@code long} property as {@code ObjLongConsumer}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjLongConsumer<Object> longSetter(Method setter) {
+        return create(ObjLongConsumer.class, "accept", setter,
+                MethodType.methodType(void.class, Object.class, long.class), exactType(setter));
+    }
+
+    /**
+     * Setter of a {@code double} property as {@code ObjDoubleConsumer}, without boxing
+     */
+    @SuppressWarnings("unchecked")
+    public static ObjDoubleConsumer<Object> doubleSetter(Method setter) {
+        return create(ObjDoubleConsumer.class, "accept", setter,
+                MethodType.methodType(void.class, Object.class, double.class), exactType(setter));
+    }
+
+    /**
+     * Find the single abstract method of a functional interface
+     *
+     * @throws ReflectionException if the type is not an interface with exactly one abstract method
+     */
+    public static Method functionalMethod(Class<?> functionalInterface) {
+        if (!functionalInterface.isInterface()) {
+            throw new ReflectionException("Not an interface: " + functionalInterface.getName());
+        }
+        Method found = null;
+        for (Method method : functionalInterface.getMethods()) {
+            if (!Modifier.isAbstract(method.getModifiers()) || isObjectMethod(method)) {
+                continue;
+            }
+            if (found != null && !(found.getName().equals(method.getName())
+                    && Arrays.equals(found.getParameterTypes(), method.getParameterTypes()))) {
+                throw new ReflectionException("Not a functional interface: " + functionalInterface.getName());
+            }
+            found = method;
+        }
+        if (found == null) {
+            throw new ReflectionException("Not a functional interface: " + functionalInterface.getName());
+        }
+        return found;
+    }
+
+    /**
+     * Implement the functional interface with a static method, an instance method whose receiver is the first
+     * argument, or a constructor; the equivalent of {@code Owner::method} or {@code Owner::new}
+     *
+     * @throws ReflectionException if the shapes of the interface and the target do not fit
+     */
+    public static <F> F implement(Class<F> functionalInterface, Executable target) {
+        Method sam = functionalMethod(functionalInterface);
+        if (target instanceof Constructor && Modifier.isAbstract(target.getDeclaringClass().getModifiers())) {
+            throw new ReflectionException("Cannot instantiate abstract class: " + target.getDeclaringClass().getName());
+        }
+        MethodHandles.Lookup lookup = lookupFor(target.getDeclaringClass());
+        MethodHandle implementation;
+        try {
+            implementation = target instanceof Constructor
+                    ? lookup.unreflectConstructor((Constructor<?>) target)
+                    : lookup.unreflect((Method) target);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot access: " + target, e);
+        }
+        MethodType erasedType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        if (target.isVarArgs() && !isDirectFit(erasedType, implementation.type())) {
+            // Only a proxy can collect trailing arguments into the varargs array
+            return proxy(functionalInterface, implementation, erasedType, target);
+        }
+        implementation = implementation.asFixedArity();
+        MethodType instantiatedType = instantiate(erasedType, implementation.type(), target);
+        try {
+            return create(functionalInterface, sam.getName(), lookup, implementation, erasedType, instantiatedType);
+        } catch (WrongMethodTypeException e) {
+            throw new ReflectionException("Cannot implement " + functionalInterface.getName() + " with " + target, e);
+        }
+    }
+
+    /**
+     * Implementations of the functional interface with an instance method bound to a receiver, the equivalent
+     * of {@code receiver::method}. Generation happens once; applying the returned function to a receiver
+     * only allocates the lambda instance.
+     *
+     * @throws ReflectionException if the shapes of the interface and the method do not fit
+     */
+    public static <F> Function<Object, F> receiverBinder(Class<F> functionalInterface, Method target) {
+        Method sam = functionalMethod(functionalInterface);
+        MethodHandles.Lookup lookup = lookupFor(target.getDeclaringClass());
+        MethodHandle implementation;
+        try {
+            implementation = lookup.unreflect(target).asFixedArity();
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot access: " + target, e);
+        }
+        MethodType erasedType = MethodType.methodType(sam.getReturnType(), sam.getParameterTypes());
+        MethodType instantiatedType = instantiate(erasedType, implementation.type().dropParameterTypes(0, 1), target);
+        Class<?> receiverType = target.getDeclaringClass();
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, sam.getName(),
+                    MethodType.methodType(functionalInterface, receiverType), erasedType, implementation,
+                    instantiatedType);
+            MethodHandle factory = site.getTarget().asType(MethodType.methodType(Object.class, Object.class));
+            return receiver -> {
+                try {
+                    return functionalInterface.cast(factory.invokeExact(receiverType.cast(receiver)));
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new ReflectionException("Failed to bind " + target, e);
+                }
+            };
+        } catch (LambdaConversionException | IllegalArgumentException e) {
+            return receiver -> proxy(functionalInterface, implementation.bindTo(receiverType.cast(receiver)),
+                    erasedType, target);
+        }
+    }
+
+    /**
+     * Narrow the erased interface signature to what the implementation accepts: a generic {@code Object}
+     * parameter becomes the implementation parameter type (boxed for primitives), so LambdaMetafactory
+     * inserts the casts and unboxing
+     */
+    private static MethodType instantiate(MethodType erasedType, MethodType implementationType, Executable target) {
+        if (erasedType.parameterCount() != implementationType.parameterCount()) {
+            throw new ReflectionException("Cannot implement " + erasedType + " with " + target
+                    + ": expected " + erasedType.parameterCount() + " parameters");
+        }
+        MethodType instantiated = erasedType;
+        for (int i = 0; i < erasedType.parameterCount(); i++) {
+            Class<?> declared = erasedType.parameterType(i);
+            Class<?> accepted = Primitives.wrap(implementationType.parameterType(i));
+            if (!declared.isPrimitive() && declared != accepted && declared.isAssignableFrom(accepted)) {
+                instantiated = instantiated.changeParameterType(i, accepted);
+            }
+        }
+        return instantiated;
+    }
+
+    private static boolean isDirectFit(MethodType erasedType, MethodType implementationType) {
+        int last = implementationType.parameterCount() - 1;
+        return erasedType.parameterCount() == implementationType.parameterCount()
+                && implementationType.parameterType(last).isAssignableFrom(erasedType.parameterType(last));
+    }
+
+    private static <F> F proxy(Class<F> functionalInterface, MethodHandle implementation, MethodType erasedType,
+                               Executable target) {
+        try {
+            return MethodHandleProxies.asInterfaceInstance(functionalInterface, implementation.asType(erasedType));
+        } catch (RuntimeException e) {
+            throw new ReflectionException("Cannot implement " + functionalInterface.getName() + " with " + target, e);
+        }
+    }
+
+    private static boolean isObjectMethod(Method method) {
+        try {
+            Object.class.getMethod(method.getName(), method.getParameterTypes());
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Implement the functional interface with the method
+     *
+     * @param functionalInterface the interface to implement
+     * @param methodName          name of its abstract method
+     * @param method              the implementation, an instance method takes the receiver as first argument
+     * @param erasedType          erased signature of the abstract method
+     * @param instantiatedType    signature of the abstract method as the implementation sees it
+     */
+    static <F> F create(Class<F> functionalInterface, String methodName, Method method,
+                        MethodType erasedType, MethodType instantiatedType) {
+        MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+        MethodHandle implementation;
+        try {
+            implementation = lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new ReflectionException("Cannot access method: " + method, e);
+        }
+        return create(functionalInterface, methodName, lookup, implementation, erasedType, instantiatedType);
+    }
+
+    static <F> F create(Class<F> functionalInterface, String methodName, MethodHandles.Lookup lookup,
+                        MethodHandle implementation, MethodType erasedType, MethodType instantiatedType) {
+        try {
+            CallSite site = LambdaMetafactory.metafactory(lookup, methodName,
+                    MethodType.methodType(functionalInterface), erasedType, implementation, instantiatedType);
+            return functionalInterface.cast(site.getTarget().invoke());
+        } catch (LambdaConversionException | IllegalArgumentException e) {
+            // The lookup is not allowed to define the lambda class, proxy the handle instead
+            return MethodHandleProxies.asInterfaceInstance(functionalInterface, implementation.asType(erasedType));
+        } catch (Throwable e) {
+            throw new ReflectionException("Failed to create " + functionalInterface.getSimpleName()
+                    + " for " + implementation, e);
+        }
+    }
+
+    /**
+     * Lookup with private access to the class if it is open to this library, this library's own lookup otherwise
+     */
+    static MethodHandles.Lookup lookupFor(Class<?> targetClass) {
+        try {
+            return MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+        } catch (IllegalAccessException | RuntimeException e) {
+            return MethodHandles.lookup();
+        }
+    }
+
+    private static MethodType exactType(Method method) {
+        return MethodType.methodType(method.getReturnType(), method.getDeclaringClass())
+                .appendParameterTypes(method.getParameterTypes());
+    }
+}
@@ -16,13 +16,17 @@
 package io.github.qwzhang01.reflection.mapper;
 
 import io.github.qwzhang01.reflection.accessor.FieldAccessor;
+import io.github.qwzhang01.reflection.factory.ArgumentPlan;
+import io.github.qwzhang01.reflection.factory.Creator;
 import io.github.qwzhang01.reflection.factory.InstanceFactory;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
 
-import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +36,10 @@ import java.util.stream.Collectors;
  * Can be used for object serialization, API data transmission, configuration reading/writing, and other scenarios.
  * </p>
  *
+ * <p>Values are read and written through the {@link BeanProperty bean properties} of the class, i.e. through
+ * getters and setters where they exist. Records and classes with a {@link Creator} constructor are created
+ * through that constructor, see {@link ArgumentPlan}.</p>
+ *
  * <p>Note: JSON conversion is a simple implementation, only supports basic data types and strings.
  * For production environments, it is recommended to use professional JSON libraries (such as Jackson, Gson).</p>
  *
@@ -57,39 +65,56 @@ public class BeanMapper {
         }
 
         Map<String, Object> result = new LinkedHashMap<>();
-        List<Field> fields = fieldAccessor.getAllFields(obj.getClass());
-
-        for (Field field : fields) {
-            if (!java.lang.reflect.Modifier.isStatic(field.getModifiers())) {
-                try {
-                    Object value = field.get(obj);
-                    result.put(field.getName(), value);
-                } catch (IllegalAccessException e) {
-                    // Ignore inaccessible fields
-                }
-            }
+        for (BeanProperty property : fieldAccessor.getProperties(obj.getClass())) {
+            result.put(property.getName(), property.get(obj));
         }
 
         return result;
     }
 
     /**
-     * Convert Map to object
+     * Convert Map to object. Records and classes with a {@link Creator} constructor are created through that
+     * constructor, other classes through their no-arg constructor, or without any constructor if they opt in with
+     * {@link io.github.qwzhang01.reflection.factory.SkipConstructor}; remaining values are set as properties.
      */
     public <T> T fromMap(Map<String, Object> map, Class<T> clazz) {
-        T instance = instanceFactory.createInstance(clazz);
+        Optional<ArgumentPlan<T>> plan = instanceFactory.getArgumentPlan(clazz);
+        if (plan.isPresent()) {
+            return fromMap(map, plan.get(), plan.get().newArguments());
+        }
+
+        T instance = instanceFactory.instantiate(clazz);
+        map.forEach((key, value) -> setProperty(instance, key, value));
+        return instance;
+    }
+
+    /**
+     * Collect the constructor arguments into the reusable array, create the instance in one call,
+     * then set the values the constructor does not take
+     */
+    private <T> T fromMap(Map<String, Object> map, ArgumentPlan<T> plan, Object[] args) {
+        plan.reset(args);
+        map.forEach((key, value) -> plan.offer(args, key, value));
+        T instance = plan.newInstance(args);
 
         map.forEach((key, value) -> {
-            try {
-                fieldAccessor.setValue(instance, key, value);
-            } catch (Exception e) {
-                // Ignore non-existent fields
+            if (plan.indexOf(key) < 0) {
+                setProperty(instance, key, value);
             }
         });
-
         return instance;
     }
 
+    private void setProperty(Object instance, String name, Object value) {
+        fieldAccessor.getProperty(instance.getClass(), name).ifPresent(property -> {
+            try {
+                property.set(instance, value);
+            } catch (RuntimeException e) {
+                // Ignore values that do not fit the property
+            }
+        });
+    }
+
     /**
      * Convert object to JSON string (simple implementation)
      */
@@ -119,6 +144,15 @@ public class BeanMapper {
      * Convert Map list to object list
      */
     public <T> List<T> fromMapList(List<Map<String, Object>> maps, Class<T> clazz) {
+        Optional<ArgumentPlan<T>> plan = instanceFactory.getArgumentPlan(clazz);
+        if (plan.isPresent()) {
+            Object[] args = plan.get().newArguments();
+            List<T> result = new ArrayList<>(maps.size());
+            for (Map<String, Object> map : maps) {
+                result.add(fromMap(map, plan.get(), args));
+            }
+            return result;
+        }
         return maps.stream()
                 .map(map -> fromMap(map, clazz))
                 .collect(Collectors.toList());
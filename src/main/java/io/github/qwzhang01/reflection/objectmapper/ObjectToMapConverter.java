@@ -1,5 +1,8 @@
 package io.github.qwzhang01.reflection.objectmapper;
 
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+import io.github.qwzhang01.reflection.invoke.LambdaFactory;
+
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -9,6 +12,7 @@ import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 /**
  * 高性能对象转Map工具
@@ -315,13 +319,12 @@ public class ObjectToMapConverter {
         // 优先使用getter方法
         Method getter = findGetter(field, clazz);
         if (getter != null) {
-            return new MethodAccessor(name, getter);
+            return new MethodAccessor(name, LambdaFactory.getter(getter));
         }
 
         // 直接访问字段
         try {
-            field.setAccessible(true);
-            return new DirectFieldAccessor(name, field);
+            return new DirectFieldAccessor(name, FieldHandle.of(field));
         } catch (Exception e) {
             // Java 9+ 模块系统可能阻止访问某些字段
             // 对于无法访问的字段，返回null，在buildFieldAccessors中会被过滤
@@ -412,15 +415,15 @@ public class ObjectToMapConverter {
     }
 
     /**
-     * 通过Method访问字段
+     * 通过getter方法访问字段（由LambdaMetafactory生成的函数调用，避免Method.invoke）
      */
     static class MethodAccessor implements FieldAccessor {
         private final String name;
-        private final Method method;
+        private final Function<Object, Object> getter;
 
-        MethodAccessor(String name, Method method) {
+        MethodAccessor(String name, Function<Object, Object> getter) {
             this.name = name;
-            this.method = method;
+            this.getter = getter;
         }
 
         @Override
@@ -429,19 +432,19 @@ public class ObjectToMapConverter {
         }
 
         @Override
-        public Object getValue(Object obj) throws Exception {
-            return method.invoke(obj);
+        public Object getValue(Object obj) {
+            return getter.apply(obj);
         }
     }
 
     /**
-     * 直接访问字段
+     * 直接访问字段（通过编译后的VarHandle字段句柄）
      */
     static class DirectFieldAccessor implements FieldAccessor {
         private final String name;
-        private final Field field;
+        private final FieldHandle field;
 
-        DirectFieldAccessor(String name, Field field) {
+        DirectFieldAccessor(String name, FieldHandle field) {
             this.name = name;
             this.field = field;
         }
@@ -452,7 +455,7 @@ public class ObjectToMapConverter {
         }
 
         @Override
-        public Object getValue(Object obj) throws Exception {
+        public Object getValue(Object obj) {
             return field.get(obj);
         }
     }
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.scanner;
+
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+
+/**
+ * Snapshot Scanner - Class scanner backed by a persistent scan snapshot
+ * <p>
+ * Remembers, per package and JAR root, which classes a scan found, together with a fingerprint of the
+ * JAR (CRC32 over its path, size and modification time). On the next start the snapshot file is
+ * memory-mapped and validated root by root: unchanged JARs reuse the recorded class names, only changed
+ * or new ones are listed again. The snapshot file is rewritten when anything changed.
+ * </p>
+ *
+ * <p>Directory roots are not recorded: validating them would take the same directory listing as
+ * scanning them, so they are listed on every scan.</p>
+ *
+ * <p>The snapshot is only a cache. A snapshot file that cannot be read is ignored, and a failure to
+ * write it is logged; neither fails the scan.</p>
+ *
+ * <p>Unlike {@link FileSystemScanner} and {@link JarScanner}, every root that contains the package is
+ * scanned, not only the first one.</p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class SnapshotScanner implements ClassScanner {
+
+    private static final int MAGIC = 0x53525353;
+    private static final int VERSION = 1;
+    private static final System.Logger LOGGER = System.getLogger(SnapshotScanner.class.getName());
+
+    private final Path snapshotFile;
+    private final Map<String, RootEntry> entries;
+    private final AtomicInteger reusedRoots = new AtomicInteger();
+    private final AtomicInteger rescannedRoots = new AtomicInteger();
+    private volatile boolean dirty;
+
+    public SnapshotScanner(Path snapshotFile) {
+        this.snapshotFile = snapshotFile;
+        this.entries = new ConcurrentHashMap<>(load(snapshotFile));
+    }
+
+    @Override
+    public Set<Class<?>> scan(String packageName, Predicate<Class<?>> filter) {
+        Set<Class<?>> classes = new HashSet<>();
+        String packagePath = packageName.replace('.', '/');
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        try {
+            Enumeration<URL> roots = classLoader.getResources(packagePath);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                for (String className : classNames(packageName, packagePath, root)) {
+                    try {
+                        Class<?> clazz = Class.forName(className);
+                        if (filter == null || filter.test(clazz)) {
+                            classes.add(clazz);
+                        }
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        // Ignore classes that cannot be loaded
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new ReflectionException("Failed to scan package: " + packageName, e);
+        }
+
+        if (dirty) {
+            save();
+        }
+        return classes;
+    }
+
+    public Path getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    /**
+     * Number of JAR package roots served from the snapshot since creation
+     */
+    public int getReusedRootCount() {
+        return reusedRoots.get();
+    }
+
+    /**
+     * Number of JAR package roots that had to be listed again since creation
+     */
+    public int getRescannedRootCount() {
+        return rescannedRoots.get();
+    }
+
+    private List<String> classNames(String packageName, String packagePath, URL root) throws IOException {
+        if ("file".equals(root.getProtocol())) {
+            File dir = new File(URLDecoder.decode(root.getFile(), StandardCharsets.UTF_8));
+            List<String> names = new ArrayList<>();
+            listDirectory(packageName, dir, names);
+            return names;
+        }
+        if ("jar".equals(root.getProtocol())) {
+            JarURLConnection connection = (JarURLConnection) root.openConnection();
+            File jar = new File(URLDecoder.decode(connection.getJarFileURL().getFile(), StandardCharsets.UTF_8));
+            long fingerprint = fingerprintFile(jar);
+            String key = packageName + '|' + root;
+            RootEntry entry = entries.get(key);
+            if (entry != null && entry.fingerprint == fingerprint) {
+                reusedRoots.incrementAndGet();
+                return entry.classNames;
+            }
+            return remember(key, fingerprint, listJar(packagePath, connection.getJarFile()));
+        }
+        return Collections.emptyList();
+    }
+
+    private List<String> remember(String key, long fingerprint, List<String> names) {
+        rescannedRoots.incrementAndGet();
+        List<String> classNames = Collections.unmodifiableList(names);
+        entries.put(key, new RootEntry(fingerprint, classNames));
+        dirty = true;
+        return classNames;
+    }
+
+    private void listDirectory(String packageName, File dir, List<String> names) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                listDirectory(packageName.isEmpty() ? name : packageName + "." + name, file, names);
+            } else if (name.endsWith(".class")) {
+                String simpleName = name.substring(0, name.length() - 6);
+                names.add(packageName.isEmpty() ? simpleName : packageName + "." + simpleName);
+            }
+        }
+    }
+
+    private List<String> listJar(String packagePath, JarFile jarFile) {
+        String prefix = packagePath.isEmpty() || packagePath.endsWith("/") ? packagePath : packagePath + "/";
+        List<String> names = new ArrayList<>();
+        Enumeration<JarEntry> jarEntries = jarFile.entries();
+        while (jarEntries.hasMoreElements()) {
+            String entryName = jarEntries.nextElement().getName();
+            if (entryName.startsWith(prefix) && entryName.endsWith(".class")) {
+                names.add(entryName.substring(0, entryName.length() - 6).replace('/', '.'));
+            }
+        }
+        return names;
+    }
+
+    private static long fingerprintFile(File file) {
+        CRC32 crc = new CRC32();
+        crc.update(file.getAbsolutePath().getBytes(StandardCharsets.UTF_8));
+        ByteBuffer numbers = ByteBuffer.allocate(16).putLong(file.length()).putLong(file.lastModified());
+        crc.update(numbers.array());
+        return crc.getValue();
+    }
+
+    /**
+     * Read the snapshot through a memory-mapped buffer. A missing, foreign or corrupt file yields an empty snapshot.
+     * Counts and lengths are checked against the bytes left before anything is allocated for them.
+     */
+    private static Map<String, RootEntry> load(Path file) {
+        Map<String, RootEntry> loaded = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return loaded;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                return loaded;
+            }
+            // An entry takes at least a key length, a fingerprint and a class count
+            int entryCount = readCount(buffer, 16);
+            for (int i = 0; i < entryCount; i++) {
+                String key = readString(buffer);
+                long fingerprint = buffer.getLong();
+                int classCount = readCount(buffer, 4);
+                List<String> classNames = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classNames.add(readString(buffer));
+                }
+                loaded.put(key, new RootEntry(fingerprint, Collections.unmodifiableList(classNames)));
+            }
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            // Treat an unreadable snapshot as absent, it is rebuilt by the next scan
+            return new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Write the snapshot to a temporary file and move it into place, so readers never see a partial file.
+     * The classes are already found, so a failure is logged and the snapshot is written again by the next scan.
+     */
+    private synchronized void save() {
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(bytes);
+            Map<String, RootEntry> current = Map.copyOf(entries);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(current.size());
+            for (Map.Entry<String, RootEntry> entry : current.entrySet()) {
+                writeString(out, entry.getKey());
+                out.writeLong(entry.getValue().fingerprint);
+                out.writeInt(entry.getValue().classNames.size());
+                for (String className : entry.getValue().classNames) {
+                    writeString(out, className);
+                }
+            }
+            out.flush();
+
+            Path parent = snapshotFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, bytes.toByteArray());
+                Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            dirty = true;
+            LOGGER.log(System.Logger.Level.WARNING, "Failed to write scan snapshot: " + snapshotFile, e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] data = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(data.length);
+        out.write(data);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] data = new byte[readCount(buffer, 1)];
+        buffer.get(data);
+        return new String(data, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read a count of items taking at least the given number of bytes each
+     *
+     * @throws IllegalStateException if the rest of the file cannot hold that many items
+     */
+    private static int readCount(ByteBuffer buffer, int minBytes) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / minBytes) {
+            throw new IllegalStateException("Corrupt scan snapshot");
+        }
+        return count;
+    }
+
+    private static final class RootEntry {
+        final long fingerprint;
+        final List<String> classNames;
+
+        RootEntry(long fingerprint, List<String> classNames) {
+            this.fingerprint = fingerprint;
+            this.classNames = classNames;
+        }
+    }
+}
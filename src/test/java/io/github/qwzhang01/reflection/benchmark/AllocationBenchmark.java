@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.benchmark;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.core.ReflectionConfig;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 跳过构造器分配性能测试
+ * <p>
+ * 以构造器中生成 UUID、创建默认集合的领域对象为例，对比 shallowCopy 与 fromMap 在走无参构造器
+ * 和通过 {@link ReflectionConfig#addConstructorBypass(Class)} 跳过构造器时的单次耗时与分配字节数，
+ * 并给出 allocateInstance 与 newInstance 本身的开销。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class AllocationBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long startBytes;
+
+    public static void main(String[] args) {
+        ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+        ReflectionConfig config = toolkit.getContext().getConfig();
+        Order order = new Order();
+        order.setCustomer("alice");
+        order.setAmount(42);
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", "o-1");
+        map.put("customer", "bob");
+        map.put("amount", 7L);
+        map.put("lines", new ArrayList<>());
+
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.println("round " + (round + 1) + " (ns/op, bytes/op)");
+            long sink = 0;
+
+            long start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += toolkit.newInstance(Order.class).getAmount();
+            }
+            print("newInstance", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += toolkit.allocateInstance(Order.class).getAmount();
+            }
+            print("allocateInstance", start, OPERATIONS);
+
+            for (boolean bypass : new boolean[]{false, true}) {
+                if (bypass) {
+                    config.addConstructorBypass(Order.class);
+                } else {
+                    config.removeConstructorBypass(Order.class);
+                }
+                String suffix = bypass ? " (bypass)" : " (constructor)";
+
+                start = begin();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sink += toolkit.shallowCopy(order).getAmount();
+                }
+                print("shallowCopy" + suffix, start, OPERATIONS);
+
+                start = begin();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    sink += toolkit.fromMap(map, Order.class).getAmount();
+                }
+                print("fromMap" + suffix, start, OPERATIONS);
+            }
+            config.removeConstructorBypass(Order.class);
+
+            System.out.println("  (checksum " + sink + ")");
+        }
+    }
+
+    private static long begin() {
+        startBytes = THREADS.getCurrentThreadAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    private static void print(String name, long start, int operations) {
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        System.out.printf("  %-30s %8.2f %8.1f%n", name, elapsed / (double) operations,
+                allocated / (double) operations);
+    }
+
+    public static class Order {
+        private String id = UUID.randomUUID().toString();
+        private String customer;
+        private long amount;
+        private List<String> lines = new ArrayList<>();
+        private Map<String, String> attributes = new HashMap<>();
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getCustomer() {
+            return customer;
+        }
+
+        public void setCustomer(String customer) {
+            this.customer = customer;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public void setAmount(long amount) {
+            this.amount = amount;
+        }
+
+        public List<String> getLines() {
+            return lines;
+        }
+
+        public void setLines(List<String> lines) {
+            this.lines = lines;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public void setAttributes(Map<String, String> attributes) {
+            this.attributes = attributes;
+        }
+    }
+}
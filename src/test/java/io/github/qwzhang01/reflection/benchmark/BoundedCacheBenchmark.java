@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.benchmark;
+
+import io.github.qwzhang01.reflection.core.BoundedCache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 有界缓存命中路径性能测试
+ * <p>
+ * 对比 BoundedCache 与 ConcurrentHashMap 在 1~32 线程并发读取（全部命中）时的单次读取耗时，
+ * 用于确认频率统计不会让命中路径随线程数增加而变慢。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BoundedCacheBenchmark {
+
+    private static final int KEYS = 1000;
+    private static final int OPERATIONS_PER_THREAD = 2_000_000;
+
+    public static void main(String[] args) throws Exception {
+        BoundedCache<Integer, Object> bounded = new BoundedCache<>(() -> KEYS);
+        Map<Integer, Object> plain = new ConcurrentHashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            bounded.put(i, new Object());
+            plain.put(i, new Object());
+        }
+
+        // 预热
+        run(bounded, 4);
+        run(plain, 4);
+
+        System.out.println("threads | BoundedCache ns/op | ConcurrentHashMap ns/op");
+        for (int threads = 1; threads <= 32; threads *= 2) {
+            double boundedNanos = run(bounded, threads);
+            double plainNanos = run(plain, threads);
+            System.out.printf("%7d | %18.2f | %23.2f%n", threads, boundedNanos, plainNanos);
+        }
+        System.out.println("evictions: " + bounded.getEvictionCount());
+    }
+
+    /**
+     * 返回每个线程单次读取的平均耗时（纳秒）
+     */
+    private static double run(Map<Integer, Object> cache, int threads) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        LongAdder totalNanos = new LongAdder();
+        LongAdder sink = new LongAdder();
+
+        for (int t = 0; t < threads; t++) {
+            Thread thread = new Thread(() -> {
+                int[] keys = new int[1024];
+                for (int i = 0; i < keys.length; i++) {
+                    keys[i] = ThreadLocalRandom.current().nextInt(KEYS);
+                }
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int found = 0;
+                long begin = System.nanoTime();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    if (cache.get(keys[i & 1023]) != null) {
+                        found++;
+                    }
+                }
+                totalNanos.add(System.nanoTime() - begin);
+                sink.add(found);
+                done.countDown();
+            });
+            thread.start();
+        }
+
+        start.countDown();
+        done.await();
+        return totalNanos.sum() / (double) threads / OPERATIONS_PER_THREAD;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.benchmark;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.copier.CopyPlan;
+import io.github.qwzhang01.reflection.copier.ObjectCopier;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * 属性拷贝性能测试
+ * <p>
+ * 以 50 个字段的 DTO 与实体类为例，对比 copyProperties（带忽略字段）、包含策略的 copyProperties
+ * 与直接调用预编译的 {@link CopyPlan#copy} 的单次耗时与分配字节数。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class CopyPropertiesBenchmark {
+
+    private static final int OPERATIONS = 1_000_000;
+    private static final int ROUNDS = 5;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long startBytes;
+
+    public static void main(String[] args) {
+        ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+        ObjectCopier copier = new ObjectCopier();
+        Dto dto = new Dto();
+        Entity entity = new Entity();
+        CopyPlan plan = toolkit.compileCopyPlan(Dto.class, Entity.class, ObjectCopier.CopyStrategy.EXCLUDE, "field00");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.println("round " + (round + 1) + " (ns/op, bytes/op)");
+
+            long start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                dto.field01 = i;
+                toolkit.copyProperties(dto, entity, "field00");
+            }
+            print("copyProperties(ignore)", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                dto.field01 = i;
+                copier.copyProperties(dto, entity, ObjectCopier.CopyStrategy.INCLUDE, "field01", "field02");
+            }
+            print("copyProperties(include 2)", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                dto.field01 = i;
+                plan.copy(dto, entity);
+            }
+            print("CopyPlan.copy", start, OPERATIONS);
+
+            System.out.println("  (checksum " + entity.field01 + ")");
+        }
+    }
+
+    private static long begin() {
+        startBytes = THREADS.getCurrentThreadAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    private static void print(String name, long start, int operations) {
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        System.out.printf("  %-30s %8.2f %8.1f%n", name, elapsed / (double) operations,
+                allocated / (double) operations);
+    }
+
+    public static class Dto {
+        private String field00;
+        private long field01;
+        private int field02;
+        private Integer field03;
+        private double field04;
+        private String field05;
+        private long field06;
+        private int field07;
+        private Integer field08;
+        private double field09;
+        private String field10;
+        private long field11;
+        private int field12;
+        private Integer field13;
+        private double field14;
+        private String field15;
+        private long field16;
+        private int field17;
+        private Integer field18;
+        private double field19;
+        private String field20;
+        private long field21;
+        private int field22;
+        private Integer field23;
+        private double field24;
+        private String field25;
+        private long field26;
+        private int field27;
+        private Integer field28;
+        private double field29;
+        private String field30;
+        private long field31;
+        private int field32;
+        private Integer field33;
+        private double field34;
+        private String field35;
+        private long field36;
+        private int field37;
+        private Integer field38;
+        private double field39;
+        private String field40;
+        private long field41;
+        private int field42;
+        private Integer field43;
+        private double field44;
+        private String field45;
+        private long field46;
+        private int field47;
+        private Integer field48;
+        private double field49;
+    }
+
+    public static class Entity {
+        private String field00;
+        private long field01;
+        private int field02;
+        private Integer field03;
+        private double field04;
+        private String field05;
+        private long field06;
+        private int field07;
+        private Integer field08;
+        private double field09;
+        private String field10;
+        private long field11;
+        private int field12;
+        private Integer field13;
+        private double field14;
+        private String field15;
+        private long field16;
+        private int field17;
+        private Integer field18;
+        private double field19;
+        private String field20;
+        private long field21;
+        private int field22;
+        private Integer field23;
+        private double field24;
+        private String field25;
+        private long field26;
+        private int field27;
+        private Integer field28;
+        private double field29;
+        private String field30;
+        private long field31;
+        private int field32;
+        private Integer field33;
+        private double field34;
+        private String field35;
+        private long field36;
+        private int field37;
+        private Integer field38;
+        private double field39;
+        private String field40;
+        private long field41;
+        private int field42;
+        private Integer field43;
+        private double field44;
+        private String field45;
+        private long field46;
+        private int field47;
+        private Integer field48;
+        private double field49;
+    }
+}
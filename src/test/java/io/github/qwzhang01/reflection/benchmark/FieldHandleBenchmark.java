@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.benchmark;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+import io.github.qwzhang01.reflection.invoke.FieldHandle.AccessMode;
+
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Field;
+
+/**
+ * 编译字段访问器性能测试
+ * <p>
+ * 对比直接字段访问、按名称反射访问（getFieldValue/setFieldValue）、{@link Field} 读写、
+ * {@link FieldHandle} 三种访问模式以及保存在 static final 字段中的 VarHandle 的单次读写耗时。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class FieldHandleBenchmark {
+
+    private static final int OPERATIONS = 20_000_000;
+    private static final int ROUNDS = 5;
+    private static final VarHandle VALUE = ReflectionToolkit.getInstance()
+            .compileField(Point.class, "value").getVarHandle();
+
+    public static void main(String[] args) throws Exception {
+        ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+        Point[] points = new Point[1024];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = new Point();
+            points[i].value = i;
+        }
+        Field field = Point.class.getDeclaredField("value");
+        field.setAccessible(true);
+        FieldHandle handle = toolkit.compileField(Point.class, "value");
+
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.println("round " + (round + 1) + " (ns/op, read + write)");
+            long sink = 0;
+
+            long start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                Point point = points[i & 1023];
+                point.value = point.value + 1;
+            }
+            print("direct", start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS / 10; i++) {
+                Point point = points[i & 1023];
+                toolkit.setFieldValue(point, "value", (Integer) toolkit.getFieldValue(point, "value") + 1);
+            }
+            print("getFieldValue/setFieldValue", start, OPERATIONS / 10);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                Point point = points[i & 1023];
+                field.setInt(point, field.getInt(point) + 1);
+            }
+            print("Field.getInt/setInt", start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                Point point = points[i & 1023];
+                field.set(point, (Integer) field.get(point) + 1);
+            }
+            print("Field.get/set", start);
+
+            for (AccessMode mode : AccessMode.values()) {
+                start = System.nanoTime();
+                for (int i = 0; i < OPERATIONS; i++) {
+                    Point point = points[i & 1023];
+                    handle.set(point, (Integer) handle.get(point, mode) + 1, mode);
+                }
+                print("FieldHandle " + mode, start);
+            }
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                Point point = points[i & 1023];
+                VALUE.set(point, (int) VALUE.get(point) + 1);
+            }
+            print("VarHandle (static final)", start);
+
+            for (Point point : points) {
+                sink += point.value;
+            }
+            System.out.println("  (checksum " + sink + ")");
+        }
+    }
+
+    private static void print(String name, long start) {
+        print(name, start, OPERATIONS);
+    }
+
+    private static void print(String name, long start, int operations) {
+        System.out.printf("  %-28s %8.2f%n", name, (System.nanoTime() - start) / (double) operations);
+    }
+
+    static class Point {
+        int value;
+    }
+}
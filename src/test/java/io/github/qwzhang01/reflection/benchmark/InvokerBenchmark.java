@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.benchmark;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.invoke.Invoker;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * 编译调用器性能测试
+ * <p>
+ * 对比直接调用、{@link Method#invoke}、按名称动态调用（invokeMethod）与 {@link Invoker} 的单次耗时，
+ * 以及无参构造的 {@link Constructor#newInstance}、newInstance、编译构造器与编译的 Supplier。
+ * 除耗时外，通过 ThreadMXBean 统计每次调用分配的字节数（相当于 GC 剖析中的 gc.alloc.rate.norm）。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class InvokerBenchmark {
+
+    private static final int OPERATIONS = 10_000_000;
+    private static final int ROUNDS = 5;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static long startBytes;
+
+    public static void main(String[] args) throws Exception {
+        ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+        Counter counter = new Counter();
+        Method method = Counter.class.getMethod("add", int.class, int.class);
+        Constructor<Counter> constructor = Counter.class.getConstructor();
+        Invoker invoker = toolkit.compileMethod(Counter.class, "add", int.class, int.class);
+        Invoker creator = toolkit.compileConstructor(Counter.class);
+        Supplier<Counter> supplier = toolkit.getInstanceSupplier(Counter.class);
+        Integer one = 1;
+        Integer two = 2;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            System.out.println("round " + (round + 1) + " (ns/op, bytes/op)");
+            long sink = 0;
+
+            long start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += counter.add(1, 2);
+            }
+            print("direct", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += (Integer) method.invoke(counter, one, two);
+            }
+            print("Method.invoke", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS / 10; i++) {
+                sink += (Integer) toolkit.invokeMethod(counter, "add", one, two);
+            }
+            print("invokeMethod", start, OPERATIONS / 10);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += (Integer) invoker.invoke2(counter, one, two);
+            }
+            print("Invoker.invoke2", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += (Integer) invoker.invoke(counter, one, two);
+            }
+            print("Invoker.invoke(Object...)", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += constructor.newInstance().total;
+            }
+            print("Constructor.newInstance", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS / 10; i++) {
+                sink += toolkit.newInstance(Counter.class).total;
+            }
+            print("newInstance", start, OPERATIONS / 10);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += ((Counter) creator.invoke0(null)).total;
+            }
+            print("Invoker.invoke0 (constructor)", start, OPERATIONS);
+
+            start = begin();
+            for (int i = 0; i < OPERATIONS; i++) {
+                sink += supplier.get().total;
+            }
+            print("getInstanceSupplier().get()", start, OPERATIONS);
+
+            System.out.println("  (checksum " + sink + ")");
+        }
+    }
+
+    private static long begin() {
+        startBytes = THREADS.getCurrentThreadAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    private static void print(String name, long start, int operations) {
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - startBytes;
+        System.out.printf("  %-30s %8.2f %8.1f%n", name, elapsed / (double) operations,
+                allocated / (double) operations);
+    }
+
+    public static class Counter {
+        int total = 1;
+
+        public int add(int a, int b) {
+            return a + b;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.factory.ArgumentPlan;
+import io.github.qwzhang01.reflection.factory.Creator;
+import io.github.qwzhang01.reflection.mapper.BeanMapper;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 构造参数计划单元测试
+ * <p>
+ * 验证 record 的规范构造器与 {@link Creator} 构造器被编译为参数计划，
+ * Map 转对象、批量转换与浅/深拷贝经由构造器一次性创建不可变对象。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class ArgumentPlanTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testPlanDetection() {
+        ArgumentPlan<Point> plan = toolkit.getArgumentPlan(Point.class).orElseThrow();
+        assertSame(plan, toolkit.getArgumentPlan(Point.class).orElseThrow());
+        assertEquals(List.of("x", "y", "label"), plan.getNames());
+        assertEquals(1, plan.indexOf("y"));
+        assertEquals(-1, plan.indexOf("z"));
+
+        Object[] args = plan.newArguments();
+        assertArrayEquals(new Object[]{0, 0L, null}, args);
+        assertTrue(plan.offer(args, "x", (short) 3));
+        assertFalse(plan.offer(args, "y", "not a number"));
+        assertEquals(new Point(3, 0L, null), plan.newInstance(args));
+
+        assertEquals(List.of("name", "tags"), toolkit.getArgumentPlan(Money.class).orElseThrow().getNames());
+        assertFalse(toolkit.getArgumentPlan(User.class).isPresent());
+    }
+
+    @Test
+    public void testFromMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("x", 1);
+        map.put("y", 2);
+        map.put("label", "p");
+        map.put("unknown", true);
+        assertEquals(new Point(1, 2L, "p"), toolkit.fromMap(map, Point.class));
+
+        Map<String, Object> money = new HashMap<>();
+        money.put("name", "CNY");
+        money.put("tags", List.of("cash"));
+        money.put("note", "mutable");
+        Money created = toolkit.fromMap(money, Money.class);
+        assertEquals("CNY", created.name);
+        assertEquals("mutable", created.note);
+
+        List<Map<String, Object>> maps = List.of(Map.of("x", 1), Map.of("y", 5));
+        List<Point> points = new BeanMapper().fromMapList(maps, Point.class);
+        assertEquals(List.of(new Point(1, 0L, null), new Point(0, 5L, null)), points);
+    }
+
+    @Test
+    public void testCopy() {
+        Line line = new Line(new Point(1, 2L, "a"), new Point(3, 4L, "b"));
+        Line shallow = toolkit.shallowCopy(line);
+        assertEquals(line, shallow);
+        assertSame(line.from(), shallow.from());
+
+        Line deep = toolkit.deepCopy(line);
+        assertEquals(line, deep);
+        assertNotSame(line.from(), deep.from());
+
+        Money money = new Money("USD", List.of("card"));
+        money.note = "n";
+        Money copy = toolkit.shallowCopy(money);
+        assertEquals("USD", copy.name);
+        assertEquals("n", copy.note);
+    }
+
+    public record Point(int x, long y, String label) {
+        public static final Point ORIGIN = new Point(0, 0L, "origin");
+    }
+
+    public record Line(Point from, Point to) {
+    }
+
+    public static class Money {
+        private final String name;
+        private final List<String> tags;
+        private String note;
+
+        @Creator
+        public Money(String name, List<String> tags) {
+            this.name = name;
+            this.tags = tags;
+        }
+
+        public String getNote() {
+            return note;
+        }
+
+        public void setNote(String note) {
+            this.note = note;
+        }
+    }
+}
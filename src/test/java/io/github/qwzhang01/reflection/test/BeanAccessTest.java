@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.BeanAccess;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 隐藏类Bean访问器单元测试
+ * <p>
+ * 验证为 Bean 生成的隐藏类按下标读写全部属性：私有字段、getter/setter、父类私有字段和 final 字段（回退路径），
+ * 以及全部基本类型的类型化访问。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BeanAccessTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testGeneratedAccess() {
+        BeanAccess access = toolkit.getBeanAccess(Sample.class);
+        assertTrue(access.isGenerated());
+        assertTrue(access.getClass().isHidden());
+        assertSame(access, toolkit.getBeanAccess(Sample.class));
+
+        Sample sample = new Sample("fixed");
+        int count = access.indexOf("count");
+        int total = access.indexOf("total");
+        int ratio = access.indexOf("ratio");
+        int label = access.indexOf("label");
+        int code = access.indexOf("code");
+        int base = access.indexOf("base");
+        assertEquals(-1, access.indexOf("missing"));
+
+        access.set(sample, count, 3);
+        access.set(sample, label, "x");
+        assertEquals(3, access.get(sample, count));
+        assertEquals("x", access.get(sample, label));
+        // label 通过 setter 写入
+        assertEquals(1, sample.labelWrites);
+
+        access.setLong(sample, total, 40L);
+        access.setDouble(sample, ratio, 0.5);
+        access.setInt(sample, count, access.getInt(sample, count) + 1);
+        assertEquals(40L, access.getLong(sample, total));
+        assertEquals(0.5, access.getDouble(sample, ratio), 0.0);
+        assertEquals(4, sample.count);
+
+        // 父类私有字段和 final 字段走回退路径
+        access.set(sample, base, "b");
+        assertEquals("b", access.get(sample, base));
+        access.set(sample, code, "changed");
+        assertEquals("changed", access.get(sample, code));
+
+        try {
+            access.getInt(sample, label);
+            fail();
+        } catch (ReflectionException expected) {
+            // 类型不匹配
+        }
+    }
+
+    @Test
+    public void testTypedAccessForAllPrimitives() {
+        BeanAccess access = toolkit.getBeanAccess(Flags.class);
+        assertTrue(access.isGenerated());
+
+        Flags flags = new Flags();
+        access.setBoolean(flags, access.indexOf("enabled"), true);
+        access.setFloat(flags, access.indexOf("weight"), 1.5f);
+        access.setShort(flags, access.indexOf("port"), (short) 8080);
+        access.setByte(flags, access.indexOf("level"), (byte) 7);
+        access.setChar(flags, access.indexOf("grade"), 'A');
+        assertTrue(flags.enabled);
+        assertTrue(access.getBoolean(flags, access.indexOf("enabled")));
+        assertEquals(1.5f, access.getFloat(flags, access.indexOf("weight")), 0.0f);
+        assertEquals((short) 8080, access.getShort(flags, access.indexOf("port")));
+        assertEquals((byte) 7, access.getByte(flags, access.indexOf("level")));
+        assertEquals('A', access.getChar(flags, access.indexOf("grade")));
+
+        // 父类私有字段走回退路径
+        access.setBoolean(flags, access.indexOf("inherited"), true);
+        assertTrue(access.getBoolean(flags, access.indexOf("inherited")));
+
+        try {
+            access.getFloat(flags, access.indexOf("enabled"));
+            fail();
+        } catch (ReflectionException expected) {
+            // 类型不匹配
+        }
+    }
+
+    @Test
+    public void testInheritedGetters() {
+        BeanAccess access = toolkit.getBeanAccess(User.class);
+        assertTrue(access.isGenerated());
+
+        User user = new User("Bob", 30, "bob@example.com");
+        access.set(user, access.indexOf("id"), 9L);
+        assertEquals(Long.valueOf(9L), user.getId());
+
+        List<BeanProperty> properties = access.getProperties();
+        Object[] values = access.getAll(user);
+        assertEquals(properties.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(properties.get(i).get(user), values[i]);
+        }
+    }
+
+    static class Base {
+        private String base;
+    }
+
+    static class Sample extends Base {
+        private int count;
+        private long total;
+        private double ratio;
+        private String label;
+        private final String code;
+        private transient int labelWrites;
+
+        Sample(String code) {
+            this.code = code;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+
+        public void setLabel(String label) {
+            this.label = label;
+            labelWrites++;
+        }
+    }
+
+    static class FlagsBase {
+        private boolean inherited;
+    }
+
+    static class Flags extends FlagsBase {
+        private boolean enabled;
+        private float weight;
+        private short port;
+        private byte level;
+        private char grade;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.invoke.BeanProperty;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Bean属性访问单元测试
+ * <p>
+ * 验证 getter/setter 被编译为 LambdaMetafactory 生成的函数、基本类型特化访问、无访问器字段的直接访问，
+ * 以及 BeanMapper 与 ObjectCopier 通过属性读写。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BeanPropertyTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testGeneratedAccessors() {
+        List<BeanProperty> properties = toolkit.getProperties(User.class);
+        assertSame(properties, toolkit.getProperties(User.class));
+        assertEquals(List.of("name", "age", "email", "id", "createTime", "updateTime"),
+                properties.stream().map(BeanProperty::getName).collect(Collectors.toList()));
+
+        BeanProperty name = properties.get(0);
+        assertNotNull(name.getGetter());
+        assertNotNull(name.getSetter());
+        // LambdaMetafactory 生成的是隐藏类
+        assertTrue(name.getReader().getClass().isHidden());
+        assertTrue(name.getWriter().getClass().isHidden());
+
+        User user = new User();
+        name.set(user, "Alice");
+        assertEquals("Alice", user.getName());
+        assertEquals("Alice", name.get(user));
+    }
+
+    @Test
+    public void testPrimitiveAndDirectAccess() {
+        Counter counter = new Counter();
+        Map<String, BeanProperty> properties = toolkit.getProperties(Counter.class).stream()
+                .collect(Collectors.toMap(BeanProperty::getName, p -> p));
+
+        BeanProperty hits = properties.get("hits");
+        hits.getIntWriter().accept(counter, 5);
+        assertEquals(5, hits.getIntReader().applyAsInt(counter));
+        // setter 会记录调用次数
+        assertEquals(1, counter.writes);
+        assertNull(hits.getLongReader());
+
+        BeanProperty total = properties.get("total");
+        assertNull(total.getGetter());
+        total.getLongWriter().accept(counter, 7L);
+        assertEquals(7L, total.getLongReader().applyAsLong(counter));
+        assertEquals(7L, total.get(counter));
+    }
+
+    @Test
+    public void testMapperAndCopierUseSetters() {
+        Counter counter = toolkit.fromMap(Map.of("hits", 3, "total", 9L), Counter.class);
+        assertEquals(3, counter.getHits());
+        assertEquals(1, counter.writes);
+        assertEquals(9L, toolkit.toMap(counter).get("total"));
+
+        Counter copy = new Counter();
+        toolkit.copyProperties(counter, copy, "total", "writes");
+        assertEquals(3, copy.getHits());
+        assertEquals(0L, copy.total);
+        assertEquals(1, copy.writes);
+    }
+
+    public static class Counter {
+        private int hits;
+        private long total;
+        private transient int writes;
+
+        public int getHits() {
+            return hits;
+        }
+
+        public void setHits(int hits) {
+            this.hits = hits;
+            writes++;
+        }
+    }
+}
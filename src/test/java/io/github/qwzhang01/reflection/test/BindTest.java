@@ -0,0 +1,137 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static org.junit.Assert.*;
+
+/**
+ * 函数式接口绑定单元测试
+ * <p>
+ * 验证通过 LambdaMetafactory 将静态方法、实例方法（绑定/非绑定接收者）、构造器和可变参数方法
+ * 绑定到函数式接口，以及绑定结果缓存和形状不匹配时的报错。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BindTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testBindStaticAndUnboundMethods() {
+        IntBinaryOperator add = toolkit.bind(IntBinaryOperator.class, Plugin.class, "add");
+        assertEquals(5, add.applyAsInt(2, 3));
+        assertSame(add, toolkit.bind(IntBinaryOperator.class, Plugin.class, "add"));
+        // LambdaMetafactory 生成的是隐藏类
+        assertTrue(add.getClass().isHidden());
+
+        @SuppressWarnings("unchecked")
+        Function<String, Integer> parse = toolkit.bind(Function.class, Plugin.class, "parse");
+        assertEquals(Integer.valueOf(42), parse.apply("42"));
+
+        @SuppressWarnings("unchecked")
+        BiFunction<Plugin, String, String> greet = toolkit.bind(BiFunction.class, Plugin.class, "greet");
+        assertEquals("hello, Bob", greet.apply(new Plugin("hello"), "Bob"));
+
+        @SuppressWarnings("unchecked")
+        ToIntFunction<Plugin> length = toolkit.bind(ToIntFunction.class, Plugin.class, "prefixLength");
+        assertEquals(3, length.applyAsInt(new Plugin("hey")));
+
+        Joiner join = toolkit.bind(Joiner.class, Plugin.class, "join");
+        assertEquals("a|b", join.join("a", "b"));
+    }
+
+    @Test
+    public void testBindReceiverAndConstructor() {
+        @SuppressWarnings("unchecked")
+        Function<String, String> hi = toolkit.bindTo(Function.class, new Plugin("hi"), "greet");
+        @SuppressWarnings("unchecked")
+        Function<String, String> yo = toolkit.bindTo(Function.class, new Plugin("yo"), "greet");
+        assertEquals("hi, Ann", hi.apply("Ann"));
+        assertEquals("yo, Ann", yo.apply("Ann"));
+        assertSame(hi.getClass(), yo.getClass());
+
+        @SuppressWarnings("unchecked")
+        Supplier<Plugin> create = toolkit.bind(Supplier.class, Plugin.class, "new");
+        assertEquals("default", create.get().prefix);
+        @SuppressWarnings("unchecked")
+        Function<String, Plugin> createWith = toolkit.bind(Function.class, Plugin.class, "new");
+        assertEquals("custom", createWith.apply("custom").prefix);
+    }
+
+    @Test
+    public void testInvalidBindings() {
+        try {
+            toolkit.bind(Supplier.class, Plugin.class, "add");
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertEquals("Method does not exist: add", e.getMessage());
+        }
+        try {
+            toolkit.bind(Plugin.class, Plugin.class, "add");
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().startsWith("Not an interface"));
+        }
+    }
+
+    public interface Joiner {
+        String join(String first, String second);
+    }
+
+    public static class Plugin {
+        private final String prefix;
+
+        public Plugin() {
+            this("default");
+        }
+
+        public Plugin(String prefix) {
+            this.prefix = prefix;
+        }
+
+        public static int add(int a, int b) {
+            return a + b;
+        }
+
+        public static int parse(String value) {
+            return Integer.parseInt(value);
+        }
+
+        public static String join(String... parts) {
+            return String.join("|", parts);
+        }
+
+        public String greet(String name) {
+            return prefix + ", " + name;
+        }
+
+        public int prefixLength() {
+            return prefix.length();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.core.BoundedCache;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * 有界缓存单元测试
+ * <p>
+ * 验证容量上限、淘汰计数、基于访问频率的准入策略，以及删除后的条目不被准入队列持有。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BoundedCacheTest {
+
+    @Test
+    public void testSizeIsBounded() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(() -> 10);
+        for (int i = 0; i < 100; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        assertTrue(cache.size() <= 10);
+        assertEquals(100 - cache.size(), cache.getEvictionCount());
+    }
+
+    @Test
+    public void testHotKeysSurviveScan() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(() -> 100);
+        for (int i = 0; i < 10; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get(i);
+            }
+        }
+
+        // 扫描大量只访问一次的冷数据，期间热点数据仍被持续读取
+        for (int i = 1000; i < 5000; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+            if (i % 50 == 0) {
+                for (int hot = 0; hot < 10; hot++) {
+                    cache.get(hot);
+                }
+            }
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue("热点数据被淘汰: " + i, cache.containsKey(i));
+        }
+        assertTrue(cache.size() <= 100);
+    }
+
+    @Test
+    public void testMaximumSizeChangesApplyImmediately() {
+        AtomicInteger maximum = new AtomicInteger(50);
+        BoundedCache<Integer, String> cache = new BoundedCache<>(maximum::get);
+        for (int i = 0; i < 50; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        assertEquals(50, cache.size());
+
+        maximum.set(5);
+        cache.computeIfAbsent(-1, String::valueOf);
+        assertTrue(cache.size() <= 5);
+    }
+
+    @Test
+    public void testNonPositiveMaximumIsUnbounded() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(() -> 0);
+        for (int i = 0; i < 2000; i++) {
+            cache.computeIfAbsent(i, String::valueOf);
+        }
+        assertEquals(2000, cache.size());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void testRemovedValuesAreNotRetained() throws InterruptedException {
+        BoundedCache<Integer, Object> cache = new BoundedCache<>(() -> 1000);
+        Object first = new Object();
+        WeakReference<Object> reference = new WeakReference<>(first);
+        cache.put(0, first);
+        cache.remove(0);
+        first = null;
+
+        // 低于容量上限时反复 put/remove，准入队列中的过期节点也要被清理
+        for (int i = 1; i < 10_000; i++) {
+            cache.put(i, new Object());
+            cache.remove(i);
+        }
+        for (int i = 0; i < 10 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(reference.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.factory.InstanceFactory;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * 批量创建实例单元测试
+ * <p>
+ * 验证按数量批量创建、无限流生成、顺序与并行填充预分配数组，以及按列式参数调用有参构造器的批量创建，
+ * 包括列数与列长度不匹配时的异常处理。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class BulkInstanceTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testCreateInstances() {
+        List<Item> items = toolkit.newInstances(Item.class, 1000);
+        assertEquals(1000, items.size());
+        assertEquals(1000, distinct(items));
+        assertEquals("unnamed", items.get(999).name);
+        assertTrue(toolkit.newInstances(Item.class, 0).isEmpty());
+
+        try {
+            toolkit.newInstances(Item.class, -1);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testGenerateInstances() {
+        List<Item> items = toolkit.generateInstances(Item.class).limit(50).collect(Collectors.toList());
+        assertEquals(50, items.size());
+        assertEquals(50, distinct(items));
+    }
+
+    @Test
+    public void testFillInstances() {
+        Item[] small = toolkit.fillInstances(new Item[10], Item.class, null);
+        for (Item item : small) {
+            assertNotNull(item);
+        }
+
+        // 超过阈值的数组由线程池并行填充
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Object[] large = toolkit.fillInstances(new Object[InstanceFactory.PARALLEL_THRESHOLD * 2], Item.class, pool);
+            Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Object item : large) {
+                assertTrue(item instanceof Item);
+                seen.add(item);
+            }
+            assertEquals(large.length, seen.size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testColumnarArguments() {
+        Object[][] columns = {
+                {"pen", "cup", "ink"},
+                {1, 2, 3}
+        };
+        List<Item> items = toolkit.newInstances(Item.class, new Class<?>[]{String.class, int.class}, columns);
+        assertEquals(3, items.size());
+        assertEquals("cup", items.get(1).name);
+        assertEquals(3, items.get(2).quantity);
+
+        try {
+            toolkit.newInstances(Item.class, new Class<?>[]{String.class, int.class}, new Object[][]{{"pen"}});
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+        try {
+            toolkit.newInstances(Item.class, new Class<?>[]{String.class, int.class},
+                    new Object[][]{{"pen", "cup"}, {1}});
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+    }
+
+    private static int distinct(List<?> objects) {
+        Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.addAll(objects);
+        return seen.size();
+    }
+
+    public static class Item {
+        private String name = "unnamed";
+        private int quantity;
+
+        public Item() {
+        }
+
+        public Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+}
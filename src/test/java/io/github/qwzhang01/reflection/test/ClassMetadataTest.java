@@ -0,0 +1,239 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.demo.model.Column;
+import io.github.qwzhang01.reflection.demo.model.User;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * 类元数据单元测试
+ * <p>
+ * 验证方法解析（重写、桥接方法、接口默认方法）、继承成员开关以及注解和类型索引。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class ClassMetadataTest {
+
+    @Test
+    public void testOverridesAreResolved() {
+        ClassMetadata metadata = new ClassMetadata(Derived.class);
+
+        Method getName = metadata.findMethod("getName");
+        assertEquals(Derived.class, getName.getDeclaringClass());
+        assertEquals(1, metadata.getMethodsByName("getName").size());
+
+        // 桥接方法 compareTo(Object) 被过滤，只保留 compareTo(Base)
+        List<Method> compareTo = metadata.getMethodsByName("compareTo");
+        assertEquals(1, compareTo.size());
+        assertFalse(compareTo.get(0).isBridge());
+
+        // 接口默认方法
+        assertEquals(Named.class, metadata.findMethod("describe").getDeclaringClass());
+        // 被类实现覆盖的默认方法
+        assertEquals(Base.class, metadata.findMethod("greet").getDeclaringClass());
+
+        for (Method method : metadata.getMethods()) {
+            assertFalse(method.isSynthetic());
+        }
+    }
+
+    @Test
+    public void testGettersAndSetters() {
+        ClassMetadata metadata = new ClassMetadata(Derived.class);
+
+        List<String> getters = metadata.getGetters().stream().map(Method::getName).collect(Collectors.toList());
+        assertEquals(1, getters.stream().filter("getName"::equals).count());
+        assertFalse(getters.contains("getDefault"));
+
+        List<String> setters = metadata.getSetters().stream().map(Method::getName).collect(Collectors.toList());
+        assertTrue(setters.contains("setName"));
+    }
+
+    @Test
+    public void testGenericOverride() {
+        ClassMetadata metadata = new ClassMetadata(StringHolder.class);
+
+        // 子类以具体类型覆盖泛型方法后，父类擦除后的 setValue(Object) 不再出现
+        List<Method> setValue = metadata.getMethodsByName("setValue");
+        assertEquals(1, setValue.size());
+        assertEquals(String.class, setValue.get(0).getParameterTypes()[0]);
+        assertNull(metadata.findMethod("setValue", Object.class));
+        assertEquals(1, metadata.getSetters().stream().filter(m -> m.getName().equals("setValue")).count());
+        assertEquals(1, metadata.getGetters().stream().filter(m -> m.getName().equals("getValue")).count());
+        assertEquals(StringHolder.class, metadata.findMethod("getValue").getDeclaringClass());
+    }
+
+    @Test
+    public void testVisibilityBridge() {
+        ClassMetadata metadata = new ClassMetadata(PublicSub.class);
+
+        // 公共子类继承包级父类的公共方法时，编译器生成的可见性桥接方法不能隐藏父类方法
+        List<Method> getFoo = metadata.getMethodsByName("getFoo");
+        assertEquals(1, getFoo.size());
+        assertFalse(getFoo.get(0).isBridge());
+        assertNotNull(metadata.findMethod("getFoo"));
+        assertEquals(1, metadata.getGetters().stream().filter(m -> m.getName().equals("getFoo")).count());
+    }
+
+    @Test
+    public void testAnnotationIndex() {
+        ClassMetadata metadata = new ClassMetadata(User.class);
+
+        List<Field> columns = metadata.getFieldsWithAnnotation(Column.class);
+        assertEquals(3, columns.size());
+        // 索引结果是共享的不可变列表
+        assertSame(columns, metadata.getFieldsWithAnnotation(Column.class));
+        assertTrue(metadata.getFieldsWithAnnotation(Deprecated.class).isEmpty());
+        assertTrue(metadata.getMethodsWithAnnotation(Column.class).isEmpty());
+
+        Field name = metadata.findField("name");
+        Column column = metadata.getAnnotation(name, Column.class);
+        assertEquals("user_name", column.value());
+        assertSame(column, metadata.getAnnotation(name, Column.class));
+        assertNull(metadata.getAnnotation(name, Deprecated.class));
+    }
+
+    @Test
+    public void testTypeIndex() {
+        ClassMetadata metadata = new ClassMetadata(Typed.class);
+
+        assertEquals(List.of("id"), names(metadata.getFieldsByType(long.class, ClassMetadata.TypeMatch.EXACT)));
+        assertEquals(List.of("id", "version"),
+                names(metadata.getFieldsByType(Long.class, ClassMetadata.TypeMatch.BOXED)));
+        assertEquals(List.of("tags", "codes"),
+                names(metadata.getFieldsByType(Collection.class, ClassMetadata.TypeMatch.ASSIGNABLE)));
+        // 基本类型字段不可赋值给 Object
+        assertEquals(List.of("version", "tags", "codes"),
+                names(metadata.getFieldsByType(Object.class, ClassMetadata.TypeMatch.ASSIGNABLE)));
+
+        List<Field> cached = metadata.getFieldsByType(Collection.class, ClassMetadata.TypeMatch.ASSIGNABLE);
+        assertSame(cached, metadata.getFieldsByType(Collection.class, ClassMetadata.TypeMatch.ASSIGNABLE));
+    }
+
+    private static List<String> names(List<Field> fields) {
+        return fields.stream().map(Field::getName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testInheritedMembersCanBeExcluded() {
+        ClassMetadata metadata = new ClassMetadata(Derived.class, false, null);
+
+        assertNull(metadata.findMethod("setName", String.class));
+        assertNull(metadata.findMethod("describe"));
+        assertNotNull(metadata.findMethod("getName"));
+        assertNull(metadata.findField("name"));
+        assertNotNull(metadata.findField("nickname"));
+    }
+
+    interface Named {
+        default String describe() {
+            return "named";
+        }
+
+        default String greet() {
+            return "hello";
+        }
+    }
+
+    static class Base implements Comparable<Base>, Named {
+        private String name;
+
+        public static Base getDefault() {
+            return new Base();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String greet() {
+            return "hi " + name;
+        }
+
+        @Override
+        public int compareTo(Base other) {
+            return 0;
+        }
+    }
+
+    static class Typed {
+        private long id;
+        private Long version;
+        private List<String> tags;
+        private Set<String> codes;
+        private int count;
+    }
+
+    static class Derived extends Base {
+        private String nickname;
+
+        @Override
+        public String getName() {
+            return nickname == null ? super.getName() : nickname;
+        }
+    }
+
+    static class Holder<T> {
+        private T value;
+
+        public T getValue() {
+            return value;
+        }
+
+        public void setValue(T value) {
+            this.value = value;
+        }
+    }
+
+    static class StringHolder extends Holder<String> {
+        @Override
+        public String getValue() {
+            return super.getValue();
+        }
+
+        @Override
+        public void setValue(String value) {
+            super.setValue(value.trim());
+        }
+    }
+
+    static class PackageBase {
+        public String getFoo() {
+            return "foo";
+        }
+    }
+
+    public static class PublicSub extends PackageBase {
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.accessor.ColumnExtractor;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * 列式抽取单元测试
+ * <p>
+ * 验证从对象列表中批量抽取单个字段到基本类型数组、对象数组、字符串数组和 IntBuffer，
+ * 以及 ForkJoin 并行拆分、非随机访问列表和类型不匹配的处理。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class ColumnExtractorTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testExtractColumns() {
+        List<Row> rows = rows(10);
+
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, toolkit.extractInts(rows, "count"));
+        assertEquals(9L << 32, toolkit.extractLongs(rows, "total")[9]);
+        assertEquals(4.5, toolkit.extractDoubles(rows, "ratio")[9], 0.0);
+        assertEquals(Integer.valueOf(3), toolkit.extractObjects(rows, "count")[3]);
+        assertEquals("row-7", toolkit.extractStrings(rows, "label")[7]);
+        assertEquals("7", toolkit.extractStrings(rows, "count")[7]);
+        assertEquals(0, toolkit.extractInts(new ArrayList<>(), "count").length);
+
+        ColumnExtractor count = toolkit.compileColumn(Row.class, "count");
+        assertSame(count, toolkit.compileColumn(Row.class, "count"));
+        int[] target = new int[12];
+        count.extractInts(new LinkedList<>(rows), target, 2);
+        assertEquals(9, target[11]);
+        assertEquals(0, target[1]);
+    }
+
+    @Test
+    public void testExtractIntoBuffers() {
+        List<Row> rows = rows(5);
+        ColumnExtractor count = toolkit.compileColumn(Row.class, "count");
+
+        IntBuffer heap = IntBuffer.allocate(8);
+        heap.put(-1);
+        count.extractInts(rows, heap);
+        assertEquals(6, heap.position());
+        assertEquals(4, heap.get(5));
+
+        IntBuffer direct = ByteBuffer.allocateDirect(5 * Integer.BYTES).asIntBuffer();
+        count.extractInts(rows, direct);
+        assertEquals(5, direct.position());
+        assertEquals(3, direct.get(3));
+    }
+
+    @Test
+    public void testParallelExtraction() {
+        int size = ColumnExtractor.PARALLEL_THRESHOLD * 4 + 3;
+        List<Row> rows = rows(size);
+        ColumnExtractor parallel = toolkit.compileColumn(Row.class, "count").parallel(ForkJoinPool.commonPool());
+        assertTrue(parallel.isParallel());
+
+        int[] counts = parallel.extractInts(rows);
+        for (int i = 0; i < size; i++) {
+            assertEquals(i, counts[i]);
+        }
+        IntBuffer direct = ByteBuffer.allocateDirect(size * Integer.BYTES).asIntBuffer();
+        parallel.extractInts(rows, direct);
+        assertEquals(size - 1, direct.get(size - 1));
+    }
+
+    @Test
+    public void testInvalidExtraction() {
+        List<Row> rows = rows(3);
+        try {
+            toolkit.extractLongs(rows, "count");
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains("not long"));
+        }
+        try {
+            toolkit.compileColumn(Row.class, "count").extractInts(rows, new int[4], 2);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+    }
+
+    private static List<Row> rows(int size) {
+        List<Row> rows = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Row row = new Row();
+            row.count = i;
+            row.total = (long) i << 32;
+            row.ratio = i / 2.0;
+            row.label = "row-" + i;
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    public static class Row {
+        private int count;
+        private long total;
+        private double ratio;
+        private String label;
+    }
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.copier.CopyPlan;
+import io.github.qwzhang01.reflection.copier.ObjectCopier;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 属性拷贝计划单元测试
+ * <p>
+ * 验证拷贝计划只匹配同名同类型的属性，按 (源类, 目标类, 策略, 字段) 缓存，
+ * 忽略与包含两种策略的结果，以及 copyProperties 经由计划拷贝并调用 setter。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class CopyPlanTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testPlanMatchesNameAndType() {
+        CopyPlan plan = toolkit.compileCopyPlan(UserDto.class, UserEntity.class, ObjectCopier.CopyStrategy.EXCLUDE);
+        // age 类型不同，nickname 目标类没有
+        assertEquals(new HashSet<>(Arrays.asList("id", "name", "email")), new HashSet<>(plan.getPropertyNames()));
+        assertSame(UserDto.class, plan.getSourceClass());
+        assertSame(UserEntity.class, plan.getTargetClass());
+    }
+
+    @Test
+    public void testPlansAreCached() {
+        String[] ignore = {"email"};
+        CopyPlan plan = toolkit.compileCopyPlan(UserDto.class, UserEntity.class, ObjectCopier.CopyStrategy.EXCLUDE,
+                ignore);
+        // 调用方修改数组不影响已缓存的计划
+        ignore[0] = "name";
+        assertSame(plan, toolkit.compileCopyPlan(UserDto.class, UserEntity.class,
+                ObjectCopier.CopyStrategy.EXCLUDE, "email"));
+        assertNotSame(plan, toolkit.compileCopyPlan(UserDto.class, UserEntity.class,
+                ObjectCopier.CopyStrategy.INCLUDE, "email"));
+        assertFalse(plan.getPropertyNames().contains("email"));
+    }
+
+    @Test
+    public void testCopyProperties() {
+        UserDto dto = new UserDto();
+        dto.setId(7L);
+        dto.setName("alice");
+        dto.setEmail("a@example.com");
+        dto.setAge(30);
+
+        UserEntity entity = new UserEntity();
+        toolkit.copyProperties(dto, entity, "email");
+        assertEquals(Long.valueOf(7L), entity.getId());
+        assertEquals("alice", entity.getName());
+        assertNull(entity.getEmail());
+        assertEquals(0L, entity.getAge());
+        assertEquals(1, entity.nameWrites);
+
+        UserEntity selected = new UserEntity();
+        new ObjectCopier().copyProperties(dto, selected, ObjectCopier.CopyStrategy.INCLUDE, "email");
+        assertNull(selected.getName());
+        assertEquals("a@example.com", selected.getEmail());
+    }
+
+    @Test
+    public void testUnwritableTargetPropertiesAreSkipped() {
+        UserDto dto = new UserDto();
+        dto.setId(7L);
+        dto.setName("alice");
+
+        // final 字段与记录类组件不可写，复制时跳过而不是报错
+        FrozenUser frozen = new FrozenUser(1L);
+        toolkit.copyProperties(dto, frozen);
+        assertEquals(Long.valueOf(1L), frozen.id);
+        assertEquals("alice", frozen.name);
+        assertEquals(List.of("name"), toolkit.compileCopyPlan(UserDto.class, FrozenUser.class,
+                ObjectCopier.CopyStrategy.EXCLUDE).getPropertyNames());
+
+        UserRecord record = new UserRecord(1L, "bob");
+        toolkit.copyProperties(dto, record);
+        assertEquals("bob", record.name());
+        assertTrue(toolkit.compileCopyPlan(UserDto.class, UserRecord.class, ObjectCopier.CopyStrategy.EXCLUDE)
+                .getPropertyNames().isEmpty());
+    }
+
+    public static class FrozenUser {
+        private final Long id;
+        private String name;
+
+        public FrozenUser(Long id) {
+            this.id = id;
+        }
+    }
+
+    public record UserRecord(Long id, String name) {
+    }
+
+    public static class UserDto {
+        private Long id;
+        private String name;
+        private String email;
+        private int age;
+        private String nickname;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public int getAge() {
+            return age;
+        }
+
+        public void setAge(int age) {
+            this.age = age;
+        }
+    }
+
+    public static class UserEntity {
+        private Long id;
+        private String name;
+        private String email;
+        private long age;
+        private int nameWrites;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            nameWrites++;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public long getAge() {
+            return age;
+        }
+    }
+}
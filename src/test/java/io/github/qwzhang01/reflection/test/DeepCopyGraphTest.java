@@ -0,0 +1,352 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * 对象图深拷贝单元测试
+ * <p>
+ * 验证深拷贝保留循环引用与共享引用，百万节点的链表不会栈溢出，
+ * 以及数组、集合、哈希集合、排序集合、优先队列、不可变集合、记录类与 JDK 值对象的拷贝方式；
+ * 记录类的构造参数在调用构造器前已完整拷贝；可变的 JDK 值（Date、原子类、StringBuilder）被复制而不是共享。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class DeepCopyGraphTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testCycles() {
+        Node parent = new Node("parent");
+        Node child = new Node("child");
+        parent.children.add(child);
+        child.parent = parent;
+        parent.parent = parent;
+
+        Node copy = toolkit.deepCopy(parent);
+        assertNotSame(parent, copy);
+        assertSame(copy, copy.parent);
+        Node childCopy = copy.children.get(0);
+        assertNotSame(child, childCopy);
+        assertEquals("child", childCopy.name);
+        assertSame(copy, childCopy.parent);
+    }
+
+    @Test
+    public void testSharedReferences() {
+        Node shared = new Node("shared");
+        Pair pair = new Pair();
+        pair.left = shared;
+        pair.right = shared;
+        pair.nodes = new Node[]{shared, null, shared};
+
+        Pair copy = toolkit.deepCopy(pair);
+        assertNotSame(shared, copy.left);
+        assertSame(copy.left, copy.right);
+        assertSame(copy.left, copy.nodes[0]);
+        assertSame(copy.left, copy.nodes[2]);
+        assertNull(copy.nodes[1]);
+    }
+
+    @Test
+    public void testDeepChain() {
+        Node head = new Node("0");
+        Node tail = head;
+        for (int i = 1; i < 1_000_000; i++) {
+            Node next = new Node(String.valueOf(i));
+            tail.next = next;
+            tail = next;
+        }
+        tail.next = head;
+
+        Node copy = toolkit.deepCopy(head);
+        Node current = copy;
+        for (int i = 0; i < 999_999; i++) {
+            assertNotNull(current.next);
+            current = current.next;
+        }
+        assertEquals("999999", current.name);
+        assertSame(copy, current.next);
+    }
+
+    @Test
+    public void testContainers() {
+        Holder holder = new Holder();
+        holder.scores = new int[]{1, 2, 3};
+        holder.keys = new HashSet<>();
+        Key key = new Key("k");
+        holder.keys.add(key);
+        holder.byKey = new HashMap<>();
+        holder.byKey.put(key, new Node("value"));
+        holder.sorted = new TreeSet<>(Comparator.reverseOrder());
+        holder.sorted.add("a");
+        holder.sorted.add("b");
+        holder.fixed = List.of(new Node("fixed"));
+        holder.date = LocalDate.of(2025, 1, 1);
+
+        Holder copy = toolkit.deepCopy(holder);
+        assertNotSame(holder.scores, copy.scores);
+        assertArrayEquals(holder.scores, copy.scores);
+
+        // 哈希集合在元素拷贝完成后才填充，因此能按内容查找
+        Key keyCopy = copy.keys.iterator().next();
+        assertNotSame(key, keyCopy);
+        assertTrue(copy.keys.contains(new Key("k")));
+        assertEquals("value", copy.byKey.get(keyCopy).name);
+
+        assertEquals("b", copy.sorted.first());
+        assertEquals("fixed", copy.fixed.get(0).name);
+        assertNotSame(holder.fixed.get(0), copy.fixed.get(0));
+        assertSame(holder.date, copy.date);
+    }
+
+    @Test
+    public void testRecordInGraph() {
+        Node node = new Node("owner");
+        Tagged tagged = new Tagged("t", node);
+        node.tag = tagged;
+
+        Tagged copy = toolkit.deepCopy(tagged);
+        assertNotSame(tagged, copy);
+        assertNotSame(node, copy.node());
+        assertSame(copy, copy.node().tag);
+    }
+
+    @Test
+    public void testRecordArgumentsAreComplete() {
+        Tags tags = new Tags(new ArrayList<>(List.of("a", "b")));
+        Tags copy = toolkit.deepCopy(tags);
+        assertEquals(List.of("a", "b"), copy.names());
+
+        // 校验型构造器看到的是已填充的集合
+        Required required = new Required(new HashSet<>(Set.of(new Key("k"))), new Tags(List.of("c")));
+        Required requiredCopy = toolkit.deepCopy(required);
+        assertTrue(requiredCopy.keys().contains(new Key("k")));
+        assertEquals(List.of("c"), requiredCopy.tags().names());
+    }
+
+    @Test
+    public void testRecordArgumentCycle() {
+        List<Object> items = new ArrayList<>();
+        Bag bag = new Bag(items);
+        items.add(bag);
+
+        try {
+            toolkit.deepCopy(bag);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains("cycle"));
+        }
+    }
+
+    @Test
+    public void testOrderedContainers() {
+        Ordered ordered = new Ordered();
+        ordered.queue = new PriorityQueue<>(Comparator.reverseOrder());
+        ordered.queue.addAll(List.of(1, 3, 2));
+        ordered.skipSet = new ConcurrentSkipListSet<>(Comparator.reverseOrder());
+        ordered.skipSet.addAll(List.of("a", "c", "b"));
+        ordered.skipMap = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+        ordered.skipMap.put("x", 1);
+        ordered.skipMap.put("y", 2);
+
+        Ordered copy = toolkit.deepCopy(ordered);
+        assertEquals(Integer.valueOf(3), copy.queue.peek());
+        assertEquals("c", copy.skipSet.first());
+        assertEquals("y", copy.skipMap.firstKey());
+    }
+
+    @Test
+    public void testRebuiltContainerMustFitField() {
+        Labelled holder = new Labelled();
+        holder.view = Collections.unmodifiableSortedSet(new TreeSet<>(List.of("a")));
+        assertEquals(List.of("a"), new ArrayList<>(toolkit.deepCopy(holder).view));
+
+        // 无可用构造器的排序集合只能重建为 TreeSet，与字段类型不符时报错
+        holder.labels = new LabelSet("l");
+        holder.labels.add("b");
+        try {
+            toolkit.deepCopy(holder);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains("labels"));
+        }
+    }
+
+    @Test
+    public void testMutableJdkValuesAreCopied() {
+        Mutable mutable = new Mutable();
+        mutable.created = new Date(1000L);
+        mutable.alias = mutable.created;
+        mutable.counter = new AtomicInteger(5);
+        mutable.text = new StringBuilder("a");
+        mutable.latest = new AtomicReference<>(new Node("latest"));
+        mutable.id = UUID.randomUUID();
+
+        Mutable copy = toolkit.deepCopy(mutable);
+        mutable.created.setTime(2000L);
+        mutable.counter.incrementAndGet();
+        mutable.text.append('b');
+        mutable.latest.get().name = "changed";
+
+        assertEquals(1000L, copy.created.getTime());
+        assertSame(copy.created, copy.alias);
+        assertEquals(5, copy.counter.get());
+        assertEquals("a", copy.text.toString());
+        assertEquals("latest", copy.latest.get().name);
+        // 不可变的 JDK 值直接共享
+        assertSame(mutable.id, copy.id);
+
+        // 无法打开且没有已知拷贝方式的 JDK 类型报错
+        mutable.lock = Thread.currentThread();
+        try {
+            toolkit.deepCopy(mutable);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains(Thread.class.getName()));
+        }
+    }
+
+    public static class Node {
+        private String name;
+        private Node parent;
+        private Node next;
+        private Tagged tag;
+        private List<Node> children = new ArrayList<>();
+
+        public Node() {
+        }
+
+        public Node(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Pair {
+        private Node left;
+        private Node right;
+        private Node[] nodes;
+    }
+
+    public static class Holder {
+        private int[] scores;
+        private Set<Key> keys;
+        private Map<Key, Node> byKey;
+        private TreeSet<String> sorted;
+        private List<Node> fixed;
+        private LocalDate date;
+    }
+
+    public static class Key {
+        private String value;
+
+        public Key() {
+        }
+
+        public Key(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key && Objects.equals(value, ((Key) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+
+    public record Tagged(String label, Node node) {
+    }
+
+    public record Tags(List<String> names) {
+        public Tags {
+            names = List.copyOf(names);
+        }
+    }
+
+    public record Required(Set<Key> keys, Tags tags) {
+        public Required {
+            if (keys.isEmpty() || tags.names().isEmpty()) {
+                throw new IllegalArgumentException("empty");
+            }
+        }
+    }
+
+    public record Bag(List<Object> items) {
+    }
+
+    public static class Mutable {
+        private Date created;
+        private Date alias;
+        private AtomicInteger counter;
+        private StringBuilder text;
+        private AtomicReference<Node> latest;
+        private UUID id;
+        private Thread lock;
+    }
+
+    public static class Ordered {
+        private PriorityQueue<Integer> queue;
+        private ConcurrentSkipListSet<String> skipSet;
+        private ConcurrentSkipListMap<String, Integer> skipMap;
+    }
+
+    public static class Labelled {
+        private SortedSet<String> view;
+        private LabelSet labels;
+    }
+
+    public static class LabelSet extends TreeSet<String> {
+        private static final long serialVersionUID = 1L;
+
+        private final String label;
+
+        public LabelSet(String label) {
+            this.label = label;
+        }
+    }
+}
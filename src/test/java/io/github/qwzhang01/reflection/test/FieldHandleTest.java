@@ -0,0 +1,91 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.FieldHandle;
+import io.github.qwzhang01.reflection.invoke.FieldHandle.AccessMode;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * 编译字段访问器单元测试
+ * <p>
+ * 验证 VarHandle 字段句柄在 plain/volatile/opaque 三种访问模式下的读写、静态字段和 final 字段，以及句柄缓存。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class FieldHandleTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testAccessModes() {
+        User user = new User();
+        FieldHandle name = toolkit.compileField(User.class, "name");
+
+        name.set(user, "plain");
+        assertEquals("plain", user.getName());
+        name.set(user, "volatile", AccessMode.VOLATILE);
+        assertEquals("volatile", name.get(user, AccessMode.VOLATILE));
+        name.set(user, "opaque", AccessMode.OPAQUE);
+        assertEquals("opaque", name.get(user, AccessMode.OPAQUE));
+        assertEquals("opaque", name.get(user));
+
+        // 继承字段
+        FieldHandle id = toolkit.compileField(User.class, "id");
+        id.set(user, 7L);
+        assertEquals(7L, id.get(user));
+    }
+
+    @Test
+    public void testHandleIsCached() {
+        assertSame(toolkit.compileField(User.class, "email"), toolkit.compileField(User.class, "email"));
+    }
+
+    @Test
+    public void testStaticAndFinalFields() {
+        FieldHandle counter = toolkit.compileField(Holder.class, "counter");
+        counter.set(null, 3);
+        assertEquals(3, Holder.counter);
+        assertEquals(3, counter.get(null, AccessMode.VOLATILE));
+
+        Holder holder = new Holder("a");
+        FieldHandle code = toolkit.compileField(Holder.class, "code");
+        code.set(holder, "b");
+        assertEquals("b", code.get(holder));
+        try {
+            code.set(holder, "c", AccessMode.VOLATILE);
+            fail();
+        } catch (ReflectionException expected) {
+            assertEquals("b", code.get(holder));
+        }
+    }
+
+    static class Holder {
+        static int counter;
+        private final String code;
+
+        Holder(String code) {
+            this.code = code;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.accessor.FieldSet;
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 字段集合计划单元测试
+ * <p>
+ * 验证字段集合按名称编译一次后读入数组或 Map、从数组写回、批量作用于列表，以及计划缓存与错误处理。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class FieldSetTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testReadAndWrite() {
+        FieldSet plan = toolkit.compileFieldSet(User.class, Arrays.asList("name", "age", "id"));
+        assertSame(plan, toolkit.compileFieldSet(User.class, List.of("name", "age", "id")));
+        assertEquals(3, plan.size());
+
+        User user = new User("Alice", 30, "alice@example.com");
+        user.setId(7L);
+        Object[] values = new Object[4];
+        plan.read(user, values);
+        assertArrayEquals(new Object[]{"Alice", 30, 7L, null}, values);
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        plan.read(user, map);
+        assertEquals(List.of("name", "age", "id"), new ArrayList<>(map.keySet()));
+        assertEquals(map, toolkit.getFieldValues(user, List.of("name", "age", "id")));
+
+        plan.write(user, new Object[]{"Bob", 40, 8L});
+        assertEquals("Bob", user.getName());
+        assertEquals(Integer.valueOf(40), user.getAge());
+        assertEquals(Long.valueOf(8L), user.getId());
+    }
+
+    @Test
+    public void testApplyOverList() {
+        FieldSet plan = toolkit.compileFieldSet(User.class, List.of("name", "age"));
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(new User("user" + i, i, null));
+        }
+
+        Object[][] rows = plan.readAll(users);
+        assertEquals(5, rows.length);
+        assertArrayEquals(new Object[]{"user3", 3}, rows[3]);
+
+        for (Object[] row : rows) {
+            row[1] = (Integer) row[1] + 100;
+        }
+        plan.writeAll(users, rows);
+        assertEquals(Integer.valueOf(104), users.get(4).getAge());
+    }
+
+    @Test
+    public void testInvalidUse() {
+        try {
+            toolkit.compileFieldSet(User.class, List.of("name", "missing"));
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertEquals("Field does not exist: missing", e.getMessage());
+        }
+
+        FieldSet plan = toolkit.compileFieldSet(User.class, List.of("name", "age"));
+        try {
+            plan.read("not a user");
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+        try {
+            plan.write(new User(), new Object[]{"only name"});
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+/**
+ * 编译构造器单元测试
+ * <p>
+ * 验证无参构造器被编译为缓存的 Supplier、有参构造器被编译为 Function&lt;Object[], T&gt;，
+ * newInstance 经由它们创建实例，以及缺少构造器、抽象类和构造器抛出异常时的处理。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class InstanceSupplierTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testCompiledSupplier() {
+        Supplier<Item> supplier = toolkit.getInstanceSupplier(Item.class);
+        assertSame(supplier, toolkit.getInstanceSupplier(Item.class));
+        // LambdaMetafactory 生成的是隐藏类
+        assertTrue(supplier.getClass().isHidden());
+
+        Item first = supplier.get();
+        Item second = supplier.get();
+        assertNotSame(first, second);
+        assertEquals("unnamed", first.name);
+
+        // 私有构造器同样可以编译
+        assertNotNull(toolkit.newInstance(Hidden.class));
+    }
+
+    @Test
+    public void testCompiledFactory() {
+        Function<Object[], Item> factory = toolkit.getInstanceFactory(Item.class, String.class, int.class);
+        assertSame(factory, toolkit.getInstanceFactory(Item.class, String.class, int.class));
+
+        Item item = factory.apply(new Object[]{"pen", 3});
+        assertEquals("pen", item.name);
+        assertEquals(3, item.quantity);
+        assertEquals("cup", toolkit.newInstance(Item.class, new Class<?>[]{String.class, int.class}, "cup", 1).name);
+    }
+
+    @Test
+    public void testFailures() {
+        try {
+            toolkit.newInstance(NoDefault.class);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getCause() instanceof NoSuchMethodException);
+        }
+        try {
+            toolkit.newInstance(Shape.class);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            // expected
+        }
+        try {
+            toolkit.newInstance(Failing.class);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    public static class Item {
+        private final String name;
+        private final int quantity;
+
+        public Item() {
+            this("unnamed", 0);
+        }
+
+        public Item(String name, int quantity) {
+            this.name = name;
+            this.quantity = quantity;
+        }
+    }
+
+    public static class Hidden {
+        private Hidden() {
+        }
+    }
+
+    public static class NoDefault {
+        public NoDefault(String value) {
+        }
+    }
+
+    public abstract static class Shape {
+        public Shape() {
+        }
+    }
+
+    public static class Failing {
+        public Failing() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
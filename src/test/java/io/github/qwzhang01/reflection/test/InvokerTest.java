@@ -0,0 +1,153 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.invoke.Invoker;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * 编译调用器单元测试
+ * <p>
+ * 验证按参数个数特化的 invoke0..invoke6 对实例方法、静态方法、构造器和可变参数方法的调用，
+ * 参数个数不符时的报错、调用器缓存，以及预热后调用本身不分配内存。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class InvokerTest {
+
+    private static final int CALLS = 200_000;
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testInvokeByArity() {
+        Calculator calculator = new Calculator(10);
+
+        assertEquals(10, toolkit.compileMethod(Calculator.class, "base").invoke0(calculator));
+        assertEquals(13, toolkit.compileMethod(Calculator.class, "add", int.class).invoke1(calculator, 3));
+        assertEquals(21, toolkit.compileMethod(Calculator.class, "sum", int.class, int.class, int.class,
+                int.class, int.class, int.class).invoke6(calculator, 1, 2, 3, 4, 5, 6));
+        assertEquals("a-b", toolkit.compileMethod(Calculator.class, "join", String.class, String.class)
+                .invoke2(null, "a", "b"));
+        assertEquals(3, toolkit.compileMethod(Calculator.class, "count", Object[].class)
+                .invoke1(null, new Object[]{1, 2, 3}));
+
+        Invoker reset = toolkit.compileMethod(Calculator.class, "reset");
+        assertNull(reset.invoke0(calculator));
+        assertEquals(0, calculator.base);
+
+        Invoker constructor = toolkit.compileConstructor(Calculator.class, int.class);
+        Calculator created = (Calculator) constructor.invoke1(null, 42);
+        assertEquals(42, created.base);
+        assertEquals(42, toolkit.compileMethod(Calculator.class, "base").invoke(created));
+    }
+
+    @Test
+    public void testArityCheckAndCaching() {
+        Invoker add = toolkit.compileMethod(Calculator.class, "add", int.class);
+        assertSame(add, toolkit.compileMethod(Calculator.class, "add", int.class));
+        assertEquals(1, add.getArity());
+
+        try {
+            add.invoke2(new Calculator(1), 1, 2);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains("expected 1, got 2"));
+        }
+        try {
+            toolkit.compileMethod(Calculator.class, "fail").invoke0(new Calculator(1));
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testNoAllocationAfterWarmUp() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Invoker add = toolkit.compileMethod(Calculator.class, "add", int.class);
+        Calculator calculator = new Calculator(1);
+        // 预热：让调用路径完成编译
+        long sink = call(add, calculator, CALLS);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += call(add, calculator, CALLS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sink != 0);
+        // 参数与返回值都在装箱缓存范围内，Method.invoke 每次至少分配一个参数数组
+        assertTrue("allocated " + allocated + " bytes for " + CALLS + " calls", allocated < 1024);
+    }
+
+    private static long call(Invoker invoker, Calculator calculator, int calls) {
+        long sink = 0;
+        for (int i = 0; i < calls; i++) {
+            sink += (Integer) invoker.invoke1(calculator, i & 63);
+        }
+        return sink;
+    }
+
+    public static class Calculator {
+        private int base;
+
+        public Calculator(int base) {
+            this.base = base;
+        }
+
+        public int base() {
+            return base;
+        }
+
+        public int add(int value) {
+            return base + value;
+        }
+
+        public int sum(int a, int b, int c, int d, int e, int f) {
+            return a + b + c + d + e + f;
+        }
+
+        public void reset() {
+            base = 0;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        public static String join(String a, String b) {
+            return a + "-" + b;
+        }
+
+        public static int count(Object... values) {
+            return values.length;
+        }
+    }
+}
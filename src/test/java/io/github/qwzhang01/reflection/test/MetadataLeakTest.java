@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.core.ReflectionConfig;
+import io.github.qwzhang01.reflection.demo.model.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * 元数据缓存类加载器泄漏测试
+ * <p>
+ * 模拟应用热部署：反复用一次性的 URLClassLoader 加载同一个类并访问其元数据，
+ * 验证 WEAK 缓存模式下旧的类加载器可以被垃圾回收。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class MetadataLeakTest {
+
+    private static final int REDEPLOYS = 10;
+
+    private ReflectionToolkit toolkit;
+    private ReflectionConfig.CacheMode originalMode;
+
+    @Before
+    public void setUp() {
+        toolkit = ReflectionToolkit.getInstance();
+        originalMode = toolkit.getContext().getConfig().getCacheMode();
+        toolkit.getContext().getConfig().setCacheMode(ReflectionConfig.CacheMode.WEAK);
+    }
+
+    @After
+    public void tearDown() {
+        toolkit.getContext().getConfig().setCacheMode(originalMode);
+    }
+
+    @Test
+    public void testRedeployedClassLoadersAreCollected() throws Exception {
+        URL classes = User.class.getProtectionDomain().getCodeSource().getLocation();
+        List<WeakReference<ClassLoader>> loaders = new ArrayList<>();
+
+        for (int i = 0; i < REDEPLOYS; i++) {
+            loaders.add(deploy(classes));
+        }
+
+        for (int attempt = 0; attempt < 50 && !allCollected(loaders); attempt++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+
+        assertTrue("类加载器未被回收，元数据缓存存在泄漏", allCollected(loaders));
+    }
+
+    private WeakReference<ClassLoader> deploy(URL classes) throws Exception {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, ClassLoader.getPlatformClassLoader())) {
+            Class<?> userClass = loader.loadClass(User.class.getName());
+            assertNotSame(User.class, userClass);
+
+            Object user = toolkit.newInstance(userClass);
+            toolkit.setFieldValue(user, "name", "redeploy");
+            assertEquals("redeploy", toolkit.getFieldValue(user, "name"));
+            assertFalse(toolkit.getAllMethods(userClass).isEmpty());
+
+            return new WeakReference<>(loader);
+        }
+    }
+
+    private boolean allCollected(List<WeakReference<ClassLoader>> loaders) {
+        for (WeakReference<ClassLoader> loader : loaders) {
+            if (loader.get() != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
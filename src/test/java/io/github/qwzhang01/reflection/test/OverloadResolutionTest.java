@@ -0,0 +1,139 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.core.OverloadResolver;
+import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.*;
+
+/**
+ * 重载解析单元测试
+ * <p>
+ * 验证动态方法调用按 Java 规则选择重载：子类型优先、装箱/拆箱与基本类型拓宽、可变参数，以及解析结果的缓存和歧义报错。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class OverloadResolutionTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testSubtypingBoxingAndWidening() {
+        Target target = new Target();
+
+        // 子类型优先于拆箱
+        assertEquals("Number", toolkit.invokeMethod(target, "accept", 1));
+        assertEquals("String", toolkit.invokeMethod(target, "accept", "a"));
+        assertEquals("Object", toolkit.invokeMethod(target, "accept", new Object()));
+        // 拆箱后拓宽
+        assertEquals(Long.valueOf(7L), toolkit.invokeMethod(target, "twice", 3.5f));
+        assertEquals(Long.valueOf(8L), toolkit.invokeMethod(target, "widen", 'a', 8));
+        // null 匹配任意引用类型参数
+        assertEquals("fixed", toolkit.invokeMethod(target, "join", (Object) null));
+    }
+
+    @Test
+    public void testVarargs() {
+        Target target = new Target();
+
+        assertEquals("fixed", toolkit.invokeMethod(target, "join", "a"));
+        assertEquals("a+b+c", toolkit.invokeMethod(target, "join", "a", "b", "c"));
+        assertEquals("x:", toolkit.invokeMethod(target, "sum", "x"));
+        assertEquals("x:6", toolkit.invokeMethod(target, "sum", "x", 1, 2, 3));
+        assertEquals("x:3", toolkit.invokeMethod(target, "sum", "x", new int[]{1, 2}));
+    }
+
+    @Test
+    public void testResolutionIsCachedAndAmbiguityReported() {
+        ClassMetadata metadata = ReflectionContext.getInstance().getMetadata(Target.class);
+        OverloadResolver.Resolution<Method> resolution = metadata.resolveMethod("accept", Integer.class);
+        assertSame(resolution, metadata.resolveMethod("accept", Integer.class));
+        assertEquals(Number.class, resolution.getExecutable().getParameterTypes()[0]);
+        assertNull(metadata.resolveMethod("accept", Integer.class, Integer.class));
+
+        try {
+            toolkit.invokeMethod(new Target(), "pair", 1, 2);
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().startsWith("Ambiguous call"));
+        }
+        try {
+            toolkit.invokeMethod(new Target(), "missing");
+            fail("Expected RuntimeException");
+        } catch (RuntimeException e) {
+            assertEquals("Method does not exist: missing", e.getMessage());
+        }
+    }
+
+    public static class Target {
+        public String accept(Object value) {
+            return "Object";
+        }
+
+        public String accept(Number value) {
+            return "Number";
+        }
+
+        public String accept(String value) {
+            return "String";
+        }
+
+        public String accept(int value) {
+            return "int";
+        }
+
+        public long twice(double value) {
+            return (long) (value * 2);
+        }
+
+        public long widen(int c, long n) {
+            return c - 'a' + n;
+        }
+
+        public String join(String first) {
+            return "fixed";
+        }
+
+        public String join(String first, String... rest) {
+            return first + "+" + String.join("+", rest);
+        }
+
+        public String sum(String label, int... values) {
+            int total = 0;
+            for (int value : values) {
+                total += value;
+            }
+            return label + ":" + (values.length == 0 ? "" : String.valueOf(total));
+        }
+
+        public String pair(int a, Integer b) {
+            return "int,Integer";
+        }
+
+        public String pair(Integer a, int b) {
+            return "Integer,int";
+        }
+    }
+}
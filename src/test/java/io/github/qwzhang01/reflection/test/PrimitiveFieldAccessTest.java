@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * 基本类型字段访问单元测试
+ * <p>
+ * 验证 int/long/double/boolean 类型化读写、类型不匹配时立即失败，
+ * 并通过 ThreadMXBean 统计线程分配字节数，证明预热后每次调用不分配内存（不装箱）。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class PrimitiveFieldAccessTest {
+
+    private static final int CALLS = 200_000;
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testTypedAccess() {
+        Metrics metrics = new Metrics();
+        toolkit.setIntFieldValue(metrics, "requests", 1000);
+        toolkit.setLongFieldValue(metrics, "bytes", 1L << 40);
+        toolkit.setDoubleFieldValue(metrics, "load", 0.75);
+        toolkit.setBooleanFieldValue(metrics, "healthy", true);
+
+        assertEquals(1000, toolkit.getIntFieldValue(metrics, "requests"));
+        assertEquals(1L << 40, toolkit.getLongFieldValue(metrics, "bytes"));
+        assertEquals(0.75, toolkit.getDoubleFieldValue(metrics, "load"), 0.0);
+        assertTrue(toolkit.getBooleanFieldValue(metrics, "healthy"));
+        assertEquals(1000, metrics.requests);
+    }
+
+    @Test
+    public void testTypeMismatchFailsFast() {
+        Metrics metrics = new Metrics();
+        try {
+            toolkit.getLongFieldValue(metrics, "requests");
+            fail();
+        } catch (ReflectionException expected) {
+            assertTrue(expected.getMessage().contains("requests"));
+        }
+        try {
+            // 包装类型字段不接受类型化访问
+            toolkit.setIntFieldValue(metrics, "boxed", 1);
+            fail();
+        } catch (ReflectionException expected) {
+            assertNull(metrics.boxed);
+        }
+    }
+
+    @Test
+    public void testNoAllocationAfterWarmUp() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        Metrics metrics = new Metrics();
+        // 预热：让调用路径完成编译，缓存全部建立
+        long sink = readAndWrite(metrics, CALLS);
+
+        long threadId = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        sink += readAndWrite(metrics, CALLS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sink != 0);
+        // 统计调用本身有少量固定开销，远小于每次调用装箱所需的 CALLS * 16 字节
+        assertTrue("allocated " + allocated + " bytes for " + CALLS + " calls", allocated < 1024);
+    }
+
+    private long readAndWrite(Metrics metrics, int calls) {
+        long sink = 0;
+        for (int i = 0; i < calls; i++) {
+            // 数值超出装箱缓存范围，若有装箱每次都会分配
+            toolkit.setIntFieldValue(metrics, "requests", 1000 + i);
+            toolkit.setLongFieldValue(metrics, "bytes", 100_000L + i);
+            toolkit.setDoubleFieldValue(metrics, "load", i * 0.5);
+            sink += toolkit.getIntFieldValue(metrics, "requests");
+            sink += toolkit.getLongFieldValue(metrics, "bytes");
+            sink += (long) toolkit.getDoubleFieldValue(metrics, "load");
+        }
+        return sink;
+    }
+
+    static class Metrics {
+        private int requests;
+        private long bytes;
+        private double load;
+        private boolean healthy;
+        private Integer boxed;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.accessor.PropertyPath;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * 属性路径单元测试
+ * <p>
+ * 验证嵌套属性、列表/数组下标、Map 键的读写，空值安全导航、类型化结果、编译缓存以及非法路径的报错。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class PropertyPathTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testGetNestedPaths() {
+        Order order = sampleOrder();
+
+        assertEquals("Shanghai", toolkit.getPathValue(order, "customer.address.city"));
+        assertEquals("SKU-3", toolkit.getPathValue(order, "items[3].sku"));
+        assertEquals("SKU-1", toolkit.getPathValue(order, "codes[1]"));
+        assertEquals("v", toolkit.getPathValue(order, "attrs['k']"));
+        assertEquals("v", toolkit.getPathValue(order, "attrs[\"k\"]"));
+        assertEquals("v", toolkit.getPathValue(order, "attrs.k"));
+
+        PropertyPath quantity = toolkit.compilePath(Order.class, "items[2].quantity");
+        assertEquals(Integer.valueOf(2), quantity.get(order, int.class));
+        assertEquals(Integer.valueOf(2), quantity.get(order, Integer.class));
+    }
+
+    @Test
+    public void testNullSafeNavigation() {
+        Order order = sampleOrder();
+        order.customer.address = null;
+
+        assertNull(toolkit.getPathValue(order, "customer.address.city"));
+        assertNull(toolkit.getPathValue(order, "items[9].sku"));
+        assertNull(toolkit.getPathValue(order, "attrs['missing'].length"));
+        assertNull(toolkit.compilePath(Order.class, "customer.name").get(null));
+    }
+
+    @Test
+    public void testSetPaths() {
+        Order order = sampleOrder();
+
+        toolkit.setPathValue(order, "customer.address.city", "Beijing");
+        toolkit.setPathValue(order, "items[0].sku", "NEW");
+        toolkit.setPathValue(order, "codes[2]", "CODE");
+        toolkit.setPathValue(order, "attrs['x']", "y");
+
+        assertEquals("Beijing", order.customer.address.city);
+        assertEquals("NEW", order.items.get(0).getSku());
+        assertEquals("CODE", order.codes[2]);
+        assertEquals("y", order.attrs.get("x"));
+
+        order.customer = null;
+        try {
+            toolkit.setPathValue(order, "customer.name", "Bob");
+            fail("Expected ReflectionException");
+        } catch (ReflectionException e) {
+            assertTrue(e.getMessage().contains("customer.name"));
+        }
+    }
+
+    @Test
+    public void testCompiledPathsAreCachedAndValidated() {
+        PropertyPath path = toolkit.compilePath(Order.class, "customer.address.city");
+        assertSame(path, toolkit.compilePath(Order.class, "customer.address.city"));
+        assertEquals(Order.class, path.getRootClass());
+        assertEquals("customer.address.city", path.getPath());
+
+        for (String invalid : new String[]{"", ".customer", "customer.", "customer..name", "items[x]",
+                "items[-1]", "items[0]sku", "items[0", "missing.name"}) {
+            try {
+                toolkit.compilePath(Order.class, invalid);
+                fail("Expected ReflectionException for " + invalid);
+            } catch (ReflectionException e) {
+                // expected
+            }
+        }
+    }
+
+    private static Order sampleOrder() {
+        Order order = new Order();
+        order.customer = new Customer();
+        order.customer.name = "Alice";
+        order.customer.address = new Address();
+        order.customer.address.city = "Shanghai";
+        order.items = new ArrayList<>();
+        order.codes = new String[4];
+        for (int i = 0; i < 4; i++) {
+            Item item = new Item();
+            item.setSku("SKU-" + i);
+            item.setQuantity(i);
+            order.items.add(item);
+            order.codes[i] = "SKU-" + i;
+        }
+        order.attrs = new HashMap<>();
+        order.attrs.put("k", "v");
+        return order;
+    }
+
+    public static class Order {
+        private Customer customer;
+        private List<Item> items;
+        private String[] codes;
+        private Map<String, Object> attrs;
+    }
+
+    public static class Customer {
+        private String name;
+        private Address address;
+    }
+
+    public static class Address {
+        private String city;
+    }
+
+    public static class Item {
+        private String sku;
+        private int quantity;
+
+        public String getSku() {
+            return sku;
+        }
+
+        public void setSku(String sku) {
+            this.sku = sku;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(int quantity) {
+            this.quantity = quantity;
+        }
+    }
+}
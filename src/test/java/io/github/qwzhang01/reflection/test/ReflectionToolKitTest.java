@@ -16,12 +16,21 @@
 package io.github.qwzhang01.reflection.test;
 
 import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.core.ClassMetadata;
+import io.github.qwzhang01.reflection.core.MetadataWarmer;
+import io.github.qwzhang01.reflection.core.ReflectionConfig;
 import io.github.qwzhang01.reflection.core.ReflectionContext;
+import io.github.qwzhang01.reflection.core.ReflectionMetrics;
+import io.github.qwzhang01.reflection.demo.model.Product;
 import io.github.qwzhang01.reflection.demo.model.User;
 import org.junit.Before;
 import org.junit.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -81,6 +90,24 @@ public class ReflectionToolKitTest {
         assertTrue(fields.size() > 0);
     }
 
+    @Test
+    public void testMemberLookup() {
+        User user = new User("赵六", 28, "zhaoliu@example.com");
+        user.setId(7L);
+
+        // 继承字段通过索引查找
+        assertEquals(Long.valueOf(7L), toolkit.getFieldValue(user, "id"));
+
+        ClassMetadata metadata = new ClassMetadata(User.class);
+        assertNotNull(metadata.findField("name"));
+        assertNull(metadata.findField("missing"));
+        assertNotNull(metadata.findMethod("setAge", Integer.class));
+        assertNull(metadata.findMethod("setAge", int.class));
+        assertEquals(1, metadata.getMethodsByName("getId").size());
+        assertNotNull(metadata.findConstructor(String.class, Integer.class, String.class));
+        assertNotNull(metadata.findConstructor());
+    }
+
     @Test
     public void testMethodInvocation() {
         User user = new User("王五", 35, "wangwu@example.com");
@@ -144,4 +171,66 @@ public class ReflectionToolKitTest {
         assertTrue(stats.getClassCacheSize() >= 0);
         assertTrue(stats.getMetadataCacheSize() >= 0);
     }
+
+    @Test
+    public void testWarmUp() {
+        MetadataWarmer.WarmUpReport report = toolkit.warmUp(Arrays.asList(User.class, Product.class)).join();
+        assertEquals(2, report.getClassCount());
+        assertEquals(2, report.getWarmedCount());
+        assertTrue(report.getFailures().isEmpty());
+
+        MetadataWarmer.WarmUpReport scanned = toolkit.warmUp("io.github.qwzhang01.reflection.demo.model").join();
+        assertTrue(scanned.getClassCount() >= 2);
+        assertTrue(scanned.getElapsedNanos() >= scanned.getScanNanos());
+    }
+
+    @Test
+    public void testWarmUpReportsEvictions() {
+        ReflectionConfig config = toolkit.getContext().getConfig();
+        int originalSize = config.getMaxCacheSize();
+        config.setMaxCacheSize(2);
+        try {
+            toolkit.getContext().clearCache();
+            // 预热的类多于缓存上限时，报告中给出被淘汰的条目数
+            MetadataWarmer.WarmUpReport report = toolkit.warmUp(Arrays.asList(User.class, Product.class,
+                    CopyPlanTest.UserDto.class, CopyPlanTest.UserEntity.class, BulkInstanceTest.Item.class,
+                    DeepCopyGraphTest.Node.class, DeepCopyGraphTest.Pair.class, DeepCopyGraphTest.Key.class)).join();
+            assertEquals(8, report.getWarmedCount());
+            assertTrue(report.getEvictedCount() > 0);
+            assertTrue(report.toString().contains("evicted="));
+        } finally {
+            config.setMaxCacheSize(originalSize);
+        }
+    }
+
+    @Test
+    public void testMetricsRecording() throws Exception {
+        ReflectionContext.CacheStatistics before = toolkit.getCacheStatistics();
+
+        User user = toolkit.newInstance(User.class);
+        toolkit.setFieldValue(user, "name", "统计");
+        toolkit.getFieldValue(user, "name");
+        toolkit.invokeMethod(user, "getName");
+
+        ReflectionContext.CacheStatistics after = toolkit.getCacheStatistics();
+        assertTrue(after.getHitCount() + after.getMissCount() > before.getHitCount() + before.getMissCount());
+        assertTrue(after.getLoadCount() > 0);
+        assertTrue(after.getMaxLoadNanos() > 0);
+        assertEquals(before.getOperationCount(ReflectionMetrics.Operation.FIELD_GET) + 1,
+                after.getOperationCount(ReflectionMetrics.Operation.FIELD_GET));
+        assertEquals(before.getOperationCount(ReflectionMetrics.Operation.METHOD_INVOKE) + 1,
+                after.getOperationCount(ReflectionMetrics.Operation.METHOD_INVOKE));
+
+        // JMX 导出
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(ReflectionContext.MBEAN_NAME);
+        assertTrue(server.isRegistered(name));
+        assertTrue((Long) server.getAttribute(name, "LoadCount") > 0);
+
+        // 重置同时清零缓存命中与未命中计数
+        server.invoke(name, "resetMetrics", null, null);
+        assertEquals(0L, server.getAttribute(name, "HitCount"));
+        assertEquals(0L, server.getAttribute(name, "MissCount"));
+        assertEquals(0L, server.getAttribute(name, "LoadCount"));
+    }
 }
\ No newline at end of file
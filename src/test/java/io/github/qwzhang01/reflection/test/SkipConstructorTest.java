@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.ReflectionToolkit;
+import io.github.qwzhang01.reflection.core.ReflectionConfig;
+import io.github.qwzhang01.reflection.exception.ReflectionException;
+import io.github.qwzhang01.reflection.factory.SkipConstructor;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * 跳过构造器分配单元测试
+ * <p>
+ * 验证 allocateInstance 不执行任何构造器与字段初始化，标注 {@link SkipConstructor} 或通过
+ * {@link ReflectionConfig#addConstructorBypass(Class)} 登记的类在浅拷贝、深拷贝与 fromMap 时跳过构造器，
+ * 未登记的类仍走无参构造器，以及无法分配的类型的异常处理。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class SkipConstructorTest {
+
+    private final ReflectionToolkit toolkit = ReflectionToolkit.getInstance();
+
+    @Test
+    public void testAllocateInstance() {
+        int before = Expensive.CONSTRUCTED.get();
+        Expensive expensive = toolkit.allocateInstance(Expensive.class);
+        assertEquals(before, Expensive.CONSTRUCTED.get());
+        assertNull(expensive.id);
+        assertNull(expensive.note);
+        assertEquals(0, expensive.level);
+
+        // 没有无参构造器的类同样可以分配
+        NoDefault noDefault = toolkit.allocateInstance(NoDefault.class);
+        assertNull(noDefault.name);
+    }
+
+    @Test
+    public void testCopiesSkipConstructor() {
+        Expensive source = new Expensive();
+        source.note.text = "a";
+        source.level = 3;
+        int before = Expensive.CONSTRUCTED.get();
+
+        Expensive shallow = toolkit.shallowCopy(source);
+        Expensive deep = toolkit.deepCopy(source);
+        assertEquals(before, Expensive.CONSTRUCTED.get());
+
+        assertEquals(source.id, shallow.id);
+        assertSame(source.note, shallow.note);
+        assertEquals(3, shallow.level);
+        assertEquals(source.id, deep.id);
+        assertNotSame(source.note, deep.note);
+        assertEquals("a", deep.note.text);
+    }
+
+    @Test
+    public void testFromMapSkipsConstructor() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("level", 7);
+        int before = Expensive.CONSTRUCTED.get();
+
+        Expensive expensive = toolkit.fromMap(map, Expensive.class);
+        assertEquals(before, Expensive.CONSTRUCTED.get());
+        assertEquals(7, expensive.level);
+        // 未出现在 Map 中的字段保持默认值，而不是初始化表达式的值
+        assertNull(expensive.id);
+    }
+
+    @Test
+    public void testConfigOptIn() {
+        ReflectionConfig config = toolkit.getContext().getConfig();
+        Plain source = new Plain();
+        int before = Plain.CONSTRUCTED.get();
+        toolkit.shallowCopy(source);
+        assertEquals(before + 1, Plain.CONSTRUCTED.get());
+
+        config.addConstructorBypass(Plain.class);
+        try {
+            Plain copy = toolkit.shallowCopy(source);
+            assertEquals(before + 1, Plain.CONSTRUCTED.get());
+            assertEquals(source.created, copy.created);
+        } finally {
+            config.removeConstructorBypass(Plain.class);
+        }
+        toolkit.shallowCopy(source);
+        assertEquals(before + 2, Plain.CONSTRUCTED.get());
+    }
+
+    @Test
+    public void testCannotAllocate() {
+        for (Class<?> type : new Class<?>[]{Runnable.class, Shape.class, int.class, String[].class}) {
+            try {
+                toolkit.allocateInstance(type);
+                fail("Expected ReflectionException for " + type);
+            } catch (ReflectionException e) {
+                // expected
+            }
+        }
+    }
+
+    @SkipConstructor
+    public static class Expensive {
+        static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+        private final String id = UUID.randomUUID().toString();
+        private Note note = new Note();
+        private int level;
+
+        public Expensive() {
+            CONSTRUCTED.incrementAndGet();
+        }
+
+        public int getLevel() {
+            return level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+    }
+
+    public static class Note {
+        private String text;
+    }
+
+    public static class Plain {
+        static final AtomicInteger CONSTRUCTED = new AtomicInteger();
+
+        private long created = System.nanoTime();
+
+        public Plain() {
+            CONSTRUCTED.incrementAndGet();
+        }
+    }
+
+    public static class NoDefault {
+        private final String name;
+
+        public NoDefault(String name) {
+            this.name = name;
+        }
+    }
+
+    public abstract static class Shape {
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025 avinzhang
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.qwzhang01.reflection.test;
+
+import io.github.qwzhang01.reflection.demo.model.User;
+import io.github.qwzhang01.reflection.scanner.CompositeScanner;
+import io.github.qwzhang01.reflection.scanner.SnapshotScanner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.Assert.*;
+
+/**
+ * 扫描快照单元测试
+ * <p>
+ * 验证 JAR 根的快照写入与重启后的复用，损坏快照（包括越界的计数与长度）的容错，
+ * 以及快照写入失败时扫描仍然返回结果。
+ * </p>
+ *
+ * @author avinzhang
+ * @since 1.3
+ */
+public class SnapshotScannerTest {
+
+    private static final String PACKAGE = "io.github.qwzhang01.reflection.demo.model";
+
+    private Path snapshotFile;
+    private Path jarFile;
+    private ClassLoader originalLoader;
+    private URLClassLoader jarLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        snapshotFile = Files.createTempFile("reflection-scan", ".snapshot");
+        Files.delete(snapshotFile);
+
+        // 把示例包打成 JAR 并加入上下文类加载器，使该包同时有目录根和 JAR 根
+        jarFile = Files.createTempFile("reflection-scan", ".jar");
+        String packagePath = PACKAGE.replace('.', '/');
+        File packageDir = new File(User.class.getResource("User.class").toURI()).getParentFile();
+        try (JarOutputStream jar = new JarOutputStream(Files.newOutputStream(jarFile))) {
+            // 包路径需要目录条目，类加载器才能把 JAR 列为该包的根
+            String directory = "";
+            for (String segment : packagePath.split("/")) {
+                directory += segment + "/";
+                jar.putNextEntry(new JarEntry(directory));
+                jar.closeEntry();
+            }
+            for (File file : packageDir.listFiles((dir, name) -> name.endsWith(".class"))) {
+                jar.putNextEntry(new JarEntry(packagePath + "/" + file.getName()));
+                Files.copy(file.toPath(), jar);
+                jar.closeEntry();
+            }
+        }
+        originalLoader = Thread.currentThread().getContextClassLoader();
+        jarLoader = new URLClassLoader(new URL[]{jarFile.toUri().toURL()}, originalLoader);
+        Thread.currentThread().setContextClassLoader(jarLoader);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Thread.currentThread().setContextClassLoader(originalLoader);
+        jarLoader.close();
+        Files.deleteIfExists(snapshotFile);
+        Files.deleteIfExists(jarFile);
+    }
+
+    @Test
+    public void testSnapshotIsReusedAfterRestart() {
+        SnapshotScanner first = new SnapshotScanner(snapshotFile);
+        Set<Class<?>> scanned = first.scan(PACKAGE);
+        assertTrue(scanned.contains(User.class));
+        assertEquals(new CompositeScanner().scan(PACKAGE), scanned);
+        assertEquals(1, first.getRescannedRootCount());
+        assertTrue(Files.exists(snapshotFile));
+
+        // 模拟重启：新的扫描器从快照文件加载，JAR 根直接复用，目录根每次重新列出
+        SnapshotScanner restarted = new SnapshotScanner(snapshotFile);
+        assertEquals(scanned, restarted.scan(PACKAGE));
+        assertEquals(0, restarted.getRescannedRootCount());
+        assertEquals(1, restarted.getReusedRootCount());
+    }
+
+    @Test
+    public void testCorruptSnapshotIsRebuilt() throws Exception {
+        Files.write(snapshotFile, new byte[]{1, 2, 3, 4, 5});
+
+        SnapshotScanner scanner = new SnapshotScanner(snapshotFile);
+        assertTrue(scanner.scan(PACKAGE).contains(User.class));
+        assertTrue(scanner.getRescannedRootCount() > 0);
+
+        SnapshotScanner restarted = new SnapshotScanner(snapshotFile);
+        restarted.scan(PACKAGE);
+        assertEquals(0, restarted.getRescannedRootCount());
+    }
+
+    @Test
+    public void testCorruptCountsAreRejected() throws Exception {
+        // 条目数远超文件长度
+        writeSnapshot(out -> out.writeInt(Integer.MAX_VALUE));
+        assertTrue(new SnapshotScanner(snapshotFile).scan(PACKAGE).contains(User.class));
+
+        // 字符串长度远超文件长度
+        writeSnapshot(out -> {
+            out.writeInt(1);
+            out.writeInt(Integer.MAX_VALUE - 8);
+            out.writeLong(0);
+            out.writeInt(0);
+        });
+        SnapshotScanner scanner = new SnapshotScanner(snapshotFile);
+        assertTrue(scanner.scan(PACKAGE).contains(User.class));
+        assertEquals(1, scanner.getRescannedRootCount());
+    }
+
+    @Test
+    public void testWriteFailureDoesNotFailScan() throws Exception {
+        // 父路径是普通文件，快照无法写入
+        Path blocker = Files.createTempFile("reflection-scan", ".blocker");
+        try {
+            SnapshotScanner scanner = new SnapshotScanner(blocker.resolve("scan.snapshot"));
+            assertTrue(scanner.scan(PACKAGE).contains(User.class));
+            assertEquals(1, Files.list(blocker.getParent())
+                    .filter(path -> path.getFileName().toString().equals(blocker.getFileName().toString()))
+                    .count());
+        } finally {
+            Files.deleteIfExists(blocker);
+        }
+    }
+
+    private void writeSnapshot(Body body) throws Exception {
+        try (OutputStream file = Files.newOutputStream(snapshotFile);
+             DataOutputStream out = new DataOutputStream(file)) {
+            out.writeInt(0x53525353);
+            out.writeInt(1);
+            body.write(out);
+        }
+    }
+
+    private interface Body {
+        void write(DataOutputStream out) throws Exception;
+    }
+}